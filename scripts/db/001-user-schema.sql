@@ -0,0 +1,29 @@
+-- user 테이블 + id 시퀀스 (user_seq)
+-- 운영 프로파일은 ddl-auto: validate 이므로 배포 전에 한 번 실행 (여러 번 실행해도 안전)
+-- docker compose 로 새 MySQL 볼륨을 만들면 /docker-entrypoint-initdb.d 로 자동 실행
+--   기존 DB : mysql -h <host> -u <user> -p one-month < scripts/db/001-user-schema.sql
+-- 기본 (개발) 프로파일은 spring.sql.init 으로 기동 시마다 실행 (application.yml)
+
+create table if not exists user (
+    id        bigint       not null,
+    nickname  varchar(255),
+    password  varchar(255) not null,
+    role      tinyint      not null,
+    username  varchar(255) not null,
+    primary key (id),
+    constraint uk_user_username unique (username)
+) engine = InnoDB;
+
+-- MySQL 에는 시퀀스가 없으므로 Hibernate 는 user_seq 테이블 한 행으로 시퀀스를 흉내 냄
+create table if not exists user_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into user_seq (next_val)
+select 0 from dual
+where not exists (select 1 from user_seq);
+
+-- Hibernate (pooled optimizer, allocationSize 50) 와 UserIdAllocator 는 next_val 이 V 일 때 [V - 49, V] 를 사용
+-- IDENTITY 로 만든 기존 id 와 겹치지 않도록 V - 49 > max(id) 로 맞춤 (이미 더 크면 그대로)
+update user_seq
+set next_val = greatest(next_val, (select coalesce(max(id), 0) + 50 from user));
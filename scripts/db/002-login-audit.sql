@@ -0,0 +1,22 @@
+-- 로그인 감사 기록 (login_audit) + user.last_login_at
+-- 001-user-schema.sql 다음에 실행 (여러 번 실행해도 안전)
+
+create table if not exists login_audit (
+    id          bigint      not null auto_increment,
+    username    varchar(255) not null,
+    client_ip   varchar(45),
+    occurred_at datetime(6) not null,
+    success     bit         not null,
+    error_code  varchar(64),
+    primary key (id),
+    index idx_login_audit_username_occurred_at (username, occurred_at)
+) engine = InnoDB;
+
+-- MySQL 은 add column if not exists 를 지원하지 않으므로 information_schema 로 확인
+set @ddl = if((select count(*) from information_schema.columns
+               where table_schema = database() and table_name = 'user' and column_name = 'last_login_at') = 0,
+              'alter table user add column last_login_at datetime(6)',
+              'select 1');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
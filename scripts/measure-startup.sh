@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+# 기존 이미지 (Dockerfile) vs 빠른 기동 이미지 (Dockerfile.cds) 기동 시간 비교
+# 사용법 : scripts/measure-startup.sh [반복 횟수=5]
+# 필요 : docker (compose v2), curl, GNU date
+#
+# 측정 항목 (실행마다 새 컨테이너, 같은 MySQL 사용)
+# - started_s   : 로그의 "Started OneMonthApplication in X seconds"
+# - ready_ms    : docker run 부터 /actuator/health 가 처음 200 을 반환할 때까지
+# - signup_ms   : 첫 POST /users/signup 응답 시간 (BCrypt + Hibernate insert)
+# - sign_ms     : 첫 POST /users/sign 응답 시간 (JwtUtil 발급 + Spring Security + Hibernate 조회)
+# - check_ms    : 첫 GET /check 응답 시간 (JWT 필터 검증)
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT=18080
+cd "$(dirname "$0")/.."
+
+now_ms() {
+    date +%s%3N
+}
+
+build_images() {
+    ./gradlew clean bootJar
+    docker build -q -f Dockerfile -t one-month:plain .
+
+    ./gradlew clean bootJar -Paot
+    docker build -q -f Dockerfile.cds -t one-month:cds .
+}
+
+start_mysql() {
+    docker compose up -d mysql >/dev/null
+    until docker compose exec -T mysql mysqladmin ping -uroot -ppassword --silent >/dev/null 2>&1; do
+        sleep 1
+    done
+    NETWORK="$(docker inspect -f '{{range $name, $_ := .NetworkSettings.Networks}}{{$name}}{{end}}' "$(docker compose ps -q mysql)")"
+}
+
+# curl 응답 시간 (ms)
+request_ms() {
+    curl -s -o /dev/null -w '%{time_total}' "$@" | awk '{ printf "%d", $1 * 1000 }'
+}
+
+measure() {
+    local image="$1" run="$2"
+    local username="startup$(date +%s%N | tail -c 9)"
+    local begin container ready started signup sign token check
+
+    begin="$(now_ms)"
+    container="$(docker run -d --network "$NETWORK" -p "$PORT:8080" \
+        -e SPRING_PROFILES_ACTIVE=prod -e DB_HOST=mysql -e DB_USERNAME=myuser -e DB_PASSWORD=mypassword \
+        "$image")"
+    until curl -sf -o /dev/null "http://localhost:$PORT/actuator/health"; do
+        sleep 0.05
+    done
+    ready=$(( $(now_ms) - begin ))
+
+    signup="$(request_ms -X POST "http://localhost:$PORT/users/signup" -H 'Content-Type: application/json' \
+        -d "{\"username\":\"$username\",\"password\":\"password1234\",\"nickname\":\"startup\"}")"
+    sign="$(request_ms -X POST "http://localhost:$PORT/users/sign" -H 'Content-Type: application/json' \
+        -d "{\"username\":\"$username\",\"password\":\"password1234\"}")"
+    token="$(curl -s -X POST "http://localhost:$PORT/users/sign" -H 'Content-Type: application/json' \
+        -d "{\"username\":\"$username\",\"password\":\"password1234\"}" | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')"
+    check="$(request_ms "http://localhost:$PORT/check" -H "Authorization: Bearer $token")"
+
+    started="$(docker logs "$container" 2>&1 | sed -n 's/.*Started OneMonthApplication in \([0-9.]*\) seconds.*/\1/p')"
+    docker rm -f "$container" >/dev/null
+
+    echo "$image,$run,$started,$ready,$signup,$sign,$check"
+}
+
+if [ "${SKIP_BUILD:-false}" != "true" ]; then
+    build_images
+fi
+start_mysql
+
+echo "image,run,started_s,ready_ms,signup_ms,sign_ms,check_ms"
+for run in $(seq 1 "$RUNS"); do
+    # 순서에 따른 차이 (MySQL 캐시 등) 가 한쪽에 몰리지 않도록 번갈아 실행
+    measure one-month:plain "$run"
+    measure one-month:cds "$run"
+done
@@ -0,0 +1,64 @@
+package com.example.onemonth.benchmark;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.jwt.Hs256TokenCodec;
+import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.global.jwt.KeyRing;
+import com.example.onemonth.global.jwt.TokenClaims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+
+/**
+ * HS256 발급 / 검증 : jjwt builder / parser vs Hs256TokenCodec
+ * ./gradlew jmh -Pjmh.includes=Hs256 (gc.alloc.rate.norm 으로 요청당 할당량 비교)
+ */
+@State(Scope.Benchmark)
+public class Hs256TokenCodecBenchmark {
+
+    private KeyRing keyRing;
+    private JwtParser jjwtParser;
+    private Hs256TokenCodec codec;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        keyRing = KeyRing.from(JwtUtilBenchmark.jwtConfig(0));
+        jjwtParser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+        codec = Hs256TokenCodec.from(keyRing);
+        token = jjwtCreate();
+    }
+
+    @Benchmark
+    public String jjwtCreate() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getSigningKeyId())
+                .setId("benchmark-token-id")
+                .setSubject("benchmarkUser")
+                .claim(JwtUtil.AUTHORIZATION, UserRole.USER.name())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 3_600_000L))
+                .signWith(keyRing.getSigningKey(), keyRing.getAlgorithm())
+                .compact();
+    }
+
+    @Benchmark
+    public String codecCreate() {
+        long now = System.currentTimeMillis();
+        return codec.encode("benchmark-token-id", "benchmarkUser", UserRole.USER, now, now + 3_600_000L);
+    }
+
+    @Benchmark
+    public TokenClaims jjwtVerify() {
+        return TokenClaims.from(jjwtParser.parseClaimsJws(token).getBody());
+    }
+
+    @Benchmark
+    public TokenClaims codecVerify() {
+        return codec.decode(token, System.currentTimeMillis());
+    }
+}
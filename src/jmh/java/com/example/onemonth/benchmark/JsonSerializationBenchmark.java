@@ -0,0 +1,93 @@
+package com.example.onemonth.benchmark;
+
+import com.example.onemonth.domain.user.dto.AuthorityDto;
+import com.example.onemonth.domain.user.dto.SignResponseDto;
+import com.example.onemonth.domain.user.dto.SignUpResponseDto;
+import com.example.onemonth.global.common.CommonResponse;
+import com.example.onemonth.global.common.CommonResponseMessageConverter;
+import com.example.onemonth.global.common.JsonResponseWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * CommonResponse 직렬화 비교 (로그인 / 회원가입 응답)
+ * - string : ObjectMapper.writeValueAsString 후 byte[] 로 변환 (기존 JwtUtil 방식)
+ * - uncachedWriter : 요청마다 writerFor 로 ObjectWriter 생성 후 스트림에 작성
+ * - cachedWriter : Blackbird + 타입별 캐시된 ObjectWriter 로 스트림에 바로 작성 (JsonResponseWriter)
+ * ./gradlew jmh -Pjmh.includes=JsonSerialization (gc.alloc.rate.norm 비교)
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"sign", "signup"})
+    public String payload;
+
+    // writeValue 가 스트림을 닫아도 계속 쓸 수 있는 버리는 스트림
+    private final OutputStream out = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+    private ObjectMapper plainMapper;
+    private JsonResponseWriter jsonResponseWriter;
+    private CommonResponseMessageConverter messageConverter;
+    private CommonResponse<?> response;
+
+    @Setup
+    public void setUp() {
+        plainMapper = new ObjectMapper();
+        jsonResponseWriter = new JsonResponseWriter(new ObjectMapper().registerModule(new BlackbirdModule()));
+        messageConverter = new CommonResponseMessageConverter(jsonResponseWriter);
+
+        if ("sign".equals(payload)) {
+            response = new CommonResponse<>("로그인 성공", 200, SignResponseDto.builder()
+                    .accessToken("eyJraWQiOiJkZWZhdWx0IiwiYWxnIjoiSFMyNTYifQ.eyJqdGkiOiIxIn0.signature")
+                    .refreshToken("eyJraWQiOiJkZWZhdWx0IiwiYWxnIjoiSFMyNTYifQ.eyJqdGkiOiIyIn0.signature")
+                    .build());
+        } else {
+            response = new CommonResponse<>("회원가입 성공", 201, SignUpResponseDto.builder()
+                    .username("benchmarkUser")
+                    .nickname("benchmark")
+                    .authorities(List.of(new AuthorityDto("USER")))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void string() throws IOException {
+        out.write(plainMapper.writeValueAsString(response).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void uncachedWriter() throws IOException {
+        plainMapper.writerFor(plainMapper.getTypeFactory()
+                .constructParametricType(CommonResponse.class, response.getResult().getClass()))
+                .writeValue(out, response);
+    }
+
+    @Benchmark
+    public void cachedWriter() throws IOException {
+        jsonResponseWriter.writerFor(response).writeValue(out, response);
+    }
+
+    // 컨트롤러 응답 경로 (CommonResponseMessageConverter → 서블릿 응답)
+    @Benchmark
+    public int servletResponse() throws IOException {
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        messageConverter.write(response, MediaType.APPLICATION_JSON, new ServletServerHttpResponse(servletResponse));
+        return servletResponse.getContentAsByteArray().length;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.onemonth.benchmark;
+
+import com.example.onemonth.domain.user.UserAuthView;
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.common.ErrorResponseWriter;
+import com.example.onemonth.global.config.JwtConfig;
+import com.example.onemonth.global.jwt.JwtAuthenticationFilter;
+import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.global.jwt.TokenRevocationList;
+import com.example.onemonth.global.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.example.onemonth.global.security.RoutePolicy;
+import com.example.onemonth.global.security.UserDetailsImpl;
+import com.example.onemonth.global.security.UserDetailsServiceImpl;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtAuthenticationFilter 전체 경로 벤치마크
+ * UserDetailsServiceImpl 은 고정 사용자를 반환하는 stub (DB 제외)
+ */
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"0", "10000"})
+    public long tokenCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+    private final FilterChain filterChain = (request, response) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = JwtUtilBenchmark.jwtConfig(tokenCacheSize);
+        JwtUtil jwtUtil = new JwtUtil(jwtConfig);
+
+        UserAuthView user = new UserAuthView(1L, "benchmarkUser", UserRole.USER);
+        UserDetailsServiceImpl userDetailsService = mock(UserDetailsServiceImpl.class);
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(new UserDetailsImpl(user));
+
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, new ErrorResponseWriter(),
+                new TokenRevocationList(jwtConfig), new AuthMetrics(new SimpleMeterRegistry()), new RoutePolicy());
+        authorizationHeader = JwtUtil.BEARER + jwtUtil.createAccessToken("benchmarkUser", UserRole.USER);
+    }
+
+    @Benchmark
+    public int authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/check");
+        request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER, authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int rejectedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/check");
+        request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER, "Bearer invalid.token.value");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, filterChain);
+        return response.getStatus();
+    }
+}
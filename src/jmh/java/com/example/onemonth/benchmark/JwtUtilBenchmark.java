@@ -0,0 +1,55 @@
+package com.example.onemonth.benchmark;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.config.JwtConfig;
+import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.global.jwt.TokenClaims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+/**
+ * JwtUtil 토큰 생성 / 검증 / 추출 벤치마크
+ * tokenCacheSize = 0 이면 매번 서명 검증 + JSON 파싱
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    @Param({"0", "10000"})
+    public long tokenCacheSize;
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(jwtConfig(tokenCacheSize));
+        accessToken = jwtUtil.createAccessToken("benchmarkUser", UserRole.USER);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken("benchmarkUser", UserRole.USER);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public TokenClaims parseToken() {
+        return jwtUtil.parseToken(accessToken);
+    }
+
+    static JwtConfig jwtConfig(long tokenCacheSize) {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "secretKey",
+                Base64.getEncoder().encodeToString("secretKeysecretKeysecretKeysecretKey".getBytes()));
+        ReflectionTestUtils.setField(jwtConfig, "tokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtConfig, "refreshTokenExpiration", 1_209_600_000L);
+        ReflectionTestUtils.setField(jwtConfig, "tokenCacheSize", tokenCacheSize);
+        return jwtConfig;
+    }
+}
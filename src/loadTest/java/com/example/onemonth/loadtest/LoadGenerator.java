@@ -0,0 +1,187 @@
+package com.example.onemonth.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * open model 부하 생성기
+ * - 요청은 응답을 기다리지 않고 정해진 간격 (1 / rate) 으로 도착
+ * - 지연 시간은 실제 전송 시각이 아니라 "도착해야 했던 시각" 부터 측정 (coordinated omission 방지)
+ * - 동시에 처리 중인 요청은 concurrency 개로 제한, 밀린 요청은 대기열에서 기다리며 그 시간도 지연에 포함
+ * - 대기열이 concurrency * 100 을 넘으면 요청을 버리고 dropped 로 집계
+ */
+final class LoadGenerator {
+
+    enum Operation {
+        SIGNUP, // POST /users/signup (새 사용자)
+        SIGN,   // POST /users/sign (미리 넣은 사용자)
+        CHECK   // GET /check (미리 발급한 AccessToken)
+    }
+
+    static final String PASSWORD = "loadtest1234";
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final int users;
+    private final List<String> accessTokens;
+    private final Operation[] schedule; // mix 비율대로 펼친 배열
+    private final int concurrency;
+    private final AtomicLong signupSequence = new AtomicLong();
+
+    private volatile Recorder[] recorders = new Recorder[0];
+
+    LoadGenerator(URI baseUri, int users, List<String> accessTokens, Map<Operation, Integer> mix, int concurrency) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUri = baseUri;
+        this.users = users;
+        this.accessTokens = List.copyOf(accessTokens);
+        this.schedule = mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * 이후 요청 결과를 기록할 대상 (워밍업 중에는 비워 둠)
+     */
+    void recordTo(Recorder... recorders) {
+        this.recorders = recorders;
+    }
+
+    void run(double rate, long durationSeconds) throws InterruptedException {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>());
+        int maxQueue = concurrency * 100;
+        long intervalNanos = (long) (1_000_000_000L / rate);
+        long durationNanos = TimeUnit.SECONDS.toNanos(durationSeconds);
+        long start = System.nanoTime();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended - start >= durationNanos) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            if (pool.getQueue().size() >= maxQueue) {
+                for (Recorder recorder : recorders) {
+                    recorder.dropped(operation);
+                }
+                continue;
+            }
+            pool.execute(() -> execute(operation, intended));
+        }
+
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    private void execute(Operation operation, long intendedNanos) {
+        int status;
+        try {
+            status = client.send(request(operation), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long micros = (System.nanoTime() - intendedNanos) / 1_000;
+        for (Recorder recorder : recorders) {
+            recorder.record(operation, status, micros);
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case SIGNUP -> json("/users/signup", "{\"username\":\"lt-new-" + signupSequence.incrementAndGet()
+                    + "\",\"password\":\"" + PASSWORD + "\",\"nickname\":\"loadtest\"}");
+            case SIGN -> json("/users/sign", "{\"username\":\"" + seededUsername(random.nextInt(users))
+                    + "\",\"password\":\"" + PASSWORD + "\"}");
+            case CHECK -> HttpRequest.newBuilder(baseUri.resolve("/check"))
+                    .header("Authorization", "Bearer " + accessTokens.get(random.nextInt(accessTokens.size())))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+        };
+    }
+
+    private HttpRequest json(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    static String seededUsername(int index) {
+        return "lt-user-" + index;
+    }
+
+    /**
+     * 요청 종류별 지연 시간 / 상태 코드 집계
+     */
+    static final class Recorder {
+        private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+        private final Map<Operation, ConcurrentHashMap<Integer, LongAdder>> statuses = new EnumMap<>(Operation.class);
+        private final Map<Operation, LongAdder> drops = new EnumMap<>(Operation.class);
+        private final long startNanos = System.nanoTime();
+
+        Recorder() {
+            for (Operation operation : Operation.values()) {
+                histograms.put(operation, new LatencyHistogram());
+                statuses.put(operation, new ConcurrentHashMap<>());
+                drops.put(operation, new LongAdder());
+            }
+        }
+
+        void record(Operation operation, int status, long micros) {
+            histograms.get(operation).record(micros);
+            statuses.get(operation).computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+
+        void dropped(Operation operation) {
+            drops.get(operation).increment();
+        }
+
+        LatencyHistogram histogram(Operation operation) {
+            return histograms.get(operation);
+        }
+
+        Map<Integer, LongAdder> statuses(Operation operation) {
+            return statuses.get(operation);
+        }
+
+        long droppedCount(Operation operation) {
+            return drops.get(operation).sum();
+        }
+
+        long totalCount() {
+            return histograms.values().stream().mapToLong(LatencyHistogram::count).sum();
+        }
+
+        double elapsedSeconds() {
+            return (System.nanoTime() - startNanos) / 1e9;
+        }
+    }
+}
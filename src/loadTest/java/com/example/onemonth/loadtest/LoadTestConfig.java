@@ -0,0 +1,58 @@
+package com.example.onemonth.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 load.*, gradle 에서는 -Pload.xxx=...)
+ *
+ * @param users          미리 넣어 둘 사용자 수
+ * @param rate           초당 요청 수 (open model : 응답과 관계없이 이 속도로 도착)
+ * @param durationSeconds 측정 시간
+ * @param warmupSeconds  측정 전 워밍업 시간 (기록하지 않음)
+ * @param concurrency    동시에 처리 중일 수 있는 최대 요청 수 (클라이언트 스레드 수)
+ * @param mix            요청 비율 (예: signup:10,sign:20,check:70)
+ * @param soak           true 면 sampleSeconds 마다 처리량 / p99 / GC 후 힙 사용량을 출력하고 힙 증가율 판정
+ * @param sampleSeconds  soak 출력 간격
+ * @param maxHeapGrowthMbPerMinute soak 에서 허용하는 GC 후 힙 증가율
+ */
+record LoadTestConfig(int users, double rate, long durationSeconds, long warmupSeconds, int concurrency,
+                      Map<LoadGenerator.Operation, Integer> mix, boolean soak, long sampleSeconds,
+                      double maxHeapGrowthMbPerMinute) {
+
+    static LoadTestConfig fromSystemProperties() {
+        boolean soak = Boolean.parseBoolean(System.getProperty("load.soak", "false"));
+        // soak 에서는 가입으로 인한 정상적인 데이터 증가가 힙 증가로 보이지 않도록 기본 비율에서 가입 제외
+        String defaultMix = soak ? "sign:20,check:80" : "signup:10,sign:20,check:70";
+
+        return new LoadTestConfig(
+                Integer.getInteger("load.users", 10_000),
+                Double.parseDouble(System.getProperty("load.rate", "200")),
+                Long.getLong("load.duration", soak ? 1800L : 60L),
+                Long.getLong("load.warmup", 15L),
+                Integer.getInteger("load.concurrency", 64),
+                parseMix(System.getProperty("load.mix", defaultMix)),
+                soak,
+                Long.getLong("load.sample", 10L),
+                Double.parseDouble(System.getProperty("load.soak.max-growth", "1.0"))
+        );
+    }
+
+    private static Map<LoadGenerator.Operation, Integer> parseMix(String mix) {
+        Map<LoadGenerator.Operation, Integer> weights = new EnumMap<>(LoadGenerator.Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("load.mix 형식이 아닙니다 (operation:weight): " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(LoadGenerator.Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix 에 요청 종류가 하나 이상 필요합니다.");
+        }
+        return weights;
+    }
+}
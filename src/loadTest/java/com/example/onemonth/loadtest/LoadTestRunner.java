@@ -0,0 +1,294 @@
+package com.example.onemonth.loadtest;
+
+import com.example.onemonth.OneMonthApplication;
+import com.example.onemonth.domain.user.User;
+import com.example.onemonth.domain.user.UserRepository;
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.domain.user.UsernameFilter;
+import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.loadtest.LoadGenerator.Operation;
+import com.example.onemonth.loadtest.LoadGenerator.Recorder;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 로컬 전체 부하 테스트 (외부 DB / 네트워크 불필요)
+ * ./gradlew loadTest -Pload.rate=300 -Pload.duration=60 -Pload.concurrency=64
+ * ./gradlew loadTest -Pload.soak=true -Pload.duration=3600
+ *
+ * - 같은 JVM 에서 애플리케이션을 H2 (MySQL 모드, build/loadtest 의 파일 DB) 로 기동
+ * - load.users 명의 사용자를 미리 넣고 AccessToken 을 미리 발급
+ * - 워밍업 후 load.duration 동안 측정, 요청 종류별 처리량 / p50 / p99 / p999 출력
+ * - soak 모드 : 구간마다 GC 직후 힙 사용량을 기록하고 증가율이 load.soak.max-growth (MB/분) 를 넘으면 실패 (exit 1)
+ * 주의 : 부하 생성기와 애플리케이션이 CPU 를 나눠 쓰므로 절대값보다 변경 전후 비교에 사용
+ */
+public final class LoadTestRunner {
+    private static final int TOKEN_POOL_SIZE = 1_000;
+    private static final int SEED_CHUNK_SIZE = 1_000;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Path databaseDir = Path.of("build", "loadtest").toAbsolutePath();
+        FileSystemUtils.deleteRecursively(databaseDir);
+
+        boolean passed;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OneMonthApplication.class)
+                .properties(applicationProperties(databaseDir))
+                .run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            long seedStart = System.nanoTime();
+            seedUsers(context, config.users());
+            System.out.printf("seeded %d users in %.1f s%n", config.users(), (System.nanoTime() - seedStart) / 1e9);
+
+            LoadGenerator generator = new LoadGenerator(URI.create("http://localhost:" + port), config.users(),
+                    issueTokens(context, Math.min(config.users(), TOKEN_POOL_SIZE)), config.mix(), config.concurrency());
+
+            System.out.printf("warm-up %d s at %.0f req/s (concurrency %d, mix %s)%n",
+                    config.warmupSeconds(), config.rate(), config.concurrency(), config.mix());
+            generator.run(config.rate(), config.warmupSeconds());
+
+            Recorder total = new Recorder();
+            if (config.soak()) {
+                passed = runSoak(generator, config, total);
+            } else {
+                System.out.printf("measuring %d s%n", config.durationSeconds());
+                generator.recordTo(total);
+                generator.run(config.rate(), config.durationSeconds());
+                passed = true;
+            }
+            generator.recordTo();
+            printReport(total);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static Map<String, Object> applicationProperties(Path databaseDir) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        // USER 는 H2 예약어이므로 NON_KEYWORDS 로 테이블 이름 허용
+        properties.put("spring.datasource.url", "jdbc:h2:file:" + databaseDir.resolve("one-month")
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.sql.init.mode", "never"); // 스키마는 Hibernate 가 H2 에 새로 만듦
+        properties.put("spring.jpa.open-in-view", "false");
+        properties.put("spring.jpa.properties.hibernate.show_sql", "false");
+        properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+        properties.put("spring.jpa.properties.hibernate.highlight_sql", "false");
+        properties.put("spring.jpa.properties.hibernate.use_sql_comments", "false");
+        properties.put("server.port", "0");
+        // 한 IP 에서 모든 요청을 보내므로 로그인 시도 제한은 끔
+        properties.put("login.rate-limit.enabled", "false");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        return properties;
+    }
+
+    /**
+     * 같은 패스워드 해시로 사용자 일괄 저장 (2차 캐시는 채우지 않음)
+     */
+    private static void seedUsers(ConfigurableApplicationContext context, int users) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        UsernameFilter usernameFilter = context.getBean(UsernameFilter.class);
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        String password = context.getBean(PasswordEncoder.class).encode(LoadGenerator.PASSWORD);
+
+        for (int from = 0; from < users; from += SEED_CHUNK_SIZE) {
+            List<User> chunk = new ArrayList<>(SEED_CHUNK_SIZE);
+            for (int i = from; i < Math.min(users, from + SEED_CHUNK_SIZE); i++) {
+                chunk.add(User.builder()
+                        .username(LoadGenerator.seededUsername(i))
+                        .nickname("loadtest")
+                        .password(password)
+                        .role(UserRole.USER)
+                        .build());
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)
+                        .unwrap(Session.class)
+                        .setCacheMode(CacheMode.IGNORE);
+                userRepository.saveAll(chunk);
+            });
+            chunk.forEach(user -> usernameFilter.add(user.getUsername()));
+        }
+    }
+
+    private static List<String> issueTokens(ConfigurableApplicationContext context, int count) {
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        List<String> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tokens.add(jwtUtil.createAccessToken(LoadGenerator.seededUsername(i), UserRole.USER));
+        }
+        return tokens;
+    }
+
+    // soak
+
+    private static boolean runSoak(LoadGenerator generator, LoadTestConfig config, Recorder total) throws InterruptedException {
+        HeapAfterGc heap = HeapAfterGc.start();
+        List<double[]> samples = Collections.synchronizedList(new ArrayList<>()); // {경과 분, GC 후 힙 MB}
+        AtomicReference<Recorder> interval = new AtomicReference<>(new Recorder());
+        long start = System.nanoTime();
+
+        generator.recordTo(total, interval.get());
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        System.out.printf("soak %d s, sample every %d s%n", config.durationSeconds(), config.sampleSeconds());
+        System.out.printf("%8s %10s %10s %12s%n", "elapsed", "req/s", "p99(ms)", "heapAfterGC");
+        sampler.scheduleAtFixedRate(() -> {
+            Recorder finished = interval.getAndSet(new Recorder());
+            generator.recordTo(total, interval.get());
+
+            double minutes = (System.nanoTime() - start) / 60e9;
+            double heapMb = heap.lastMb();
+            if (heapMb > 0) {
+                samples.add(new double[]{minutes, heapMb});
+            }
+            System.out.printf("%7.1fm %10.1f %10.2f %10.1fMB%n", minutes,
+                    finished.totalCount() / finished.elapsedSeconds(), p99Millis(finished), heapMb);
+        }, config.sampleSeconds(), config.sampleSeconds(), TimeUnit.SECONDS);
+
+        generator.run(config.rate(), config.durationSeconds());
+        sampler.shutdownNow();
+        heap.stop();
+
+        // 앞쪽 절반은 캐시 / JIT 가 채워지는 구간이므로 뒤쪽 절반으로 기울기 계산
+        List<double[]> points;
+        synchronized (samples) {
+            points = samples.size() >= 8 ? new ArrayList<>(samples.subList(samples.size() / 2, samples.size()))
+                    : new ArrayList<>(samples);
+        }
+        if (points.size() < 2) {
+            System.out.println("heap growth: not enough GC samples (run longer or lower load.sample)");
+            return true;
+        }
+        double growth = slope(points);
+        boolean passed = growth <= config.maxHeapGrowthMbPerMinute();
+        System.out.printf("heap growth after GC: %.2f MB/min (limit %.2f) -> %s%n",
+                growth, config.maxHeapGrowthMbPerMinute(), passed ? "OK" : "SUSPECTED LEAK");
+        return passed;
+    }
+
+    private static double p99Millis(Recorder recorder) {
+        long p99 = 0;
+        for (Operation operation : Operation.values()) {
+            p99 = Math.max(p99, recorder.histogram(operation).percentile(0.99));
+        }
+        return p99 / 1000.0;
+    }
+
+    // 최소제곱 기울기 (MB / 분)
+    private static double slope(List<double[]> points) {
+        double meanX = points.stream().mapToDouble(p -> p[0]).average().orElse(0);
+        double meanY = points.stream().mapToDouble(p -> p[1]).average().orElse(0);
+        double numerator = 0;
+        double denominator = 0;
+        for (double[] p : points) {
+            numerator += (p[0] - meanX) * (p[1] - meanY);
+            denominator += (p[0] - meanX) * (p[0] - meanX);
+        }
+        return denominator == 0 ? 0 : numerator / denominator;
+    }
+
+    /**
+     * GC 알림으로 GC 직후 힙 사용량 추적 (강제 GC 없이 살아 있는 객체 크기 근사)
+     */
+    private static final class HeapAfterGc {
+        private final AtomicLong lastBytes = new AtomicLong();
+        private final List<Runnable> unregister = new ArrayList<>();
+
+        static HeapAfterGc start() {
+            HeapAfterGc heap = new HeapAfterGc();
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (!(gc instanceof NotificationEmitter emitter)) {
+                    continue;
+                }
+                NotificationListener listener = (notification, handback) -> {
+                    if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                        return;
+                    }
+                    GarbageCollectionNotificationInfo info =
+                            GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                    long used = info.getGcInfo().getMemoryUsageAfterGc().values().stream()
+                            .mapToLong(MemoryUsage::getUsed).sum();
+                    heap.lastBytes.set(used);
+                };
+                emitter.addNotificationListener(listener, null, null);
+                heap.unregister.add(() -> {
+                    try {
+                        emitter.removeNotificationListener(listener);
+                    } catch (Exception ignored) {
+                        // 이미 해제됨
+                    }
+                });
+            }
+            return heap;
+        }
+
+        double lastMb() {
+            return lastBytes.get() / (1024.0 * 1024.0);
+        }
+
+        void stop() {
+            unregister.forEach(Runnable::run);
+        }
+    }
+
+    // 결과
+
+    private static void printReport(Recorder recorder) throws IOException {
+        double seconds = recorder.elapsedSeconds();
+        System.out.println();
+        System.out.printf("%-8s %9s %9s %9s %9s %9s %9s  %s%n",
+                "op", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "status");
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = recorder.histogram(operation);
+            if (histogram.count() == 0 && recorder.droppedCount(operation) == 0) {
+                continue;
+            }
+            StringBuilder statuses = new StringBuilder();
+            new TreeMap<>(recorder.statuses(operation)).forEach((status, count) ->
+                    statuses.append(status == -1 ? "io-error" : status).append('=').append(count.sum()).append(' '));
+            if (recorder.droppedCount(operation) > 0) {
+                statuses.append("dropped=").append(recorder.droppedCount(operation));
+            }
+            System.out.printf("%-8s %9d %9.1f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    operation, histogram.count(), histogram.count() / seconds,
+                    histogram.percentile(0.5) / 1000.0, histogram.percentile(0.99) / 1000.0,
+                    histogram.percentile(0.999) / 1000.0, histogram.max() / 1000.0, statuses.toString().trim());
+        }
+        System.out.printf("%-8s %9d %9.1f%n", "total", recorder.totalCount(), recorder.totalCount() / seconds);
+    }
+}
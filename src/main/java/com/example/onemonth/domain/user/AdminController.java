@@ -0,0 +1,53 @@
+package com.example.onemonth.domain.user;
+
+import com.example.onemonth.global.common.CommonResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 관리자 전용 API (/admin/** 는 ADMIN 권한 필요)
+ * 서블릿 모드 전용 (대량 등록이 HttpServletRequest 스트림을 직접 사용)
+ */
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class AdminController {
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+    private final UserService userService;
+    private final UserImportService userImportService;
+
+    @PostMapping("/admin/users/{username}/revoke")
+    public ResponseEntity<CommonResponse> revokeUserTokens(@PathVariable String username) {
+        userService.revokeUserTokens(username);
+        CommonResponse response = new CommonResponse<>("토큰 폐기 성공", 200, null);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사용자 대량 등록
+     * 요청 : NDJSON (application/x-ndjson) 또는 CSV (text/csv, username,password,nickname)
+     * 응답 : 행별 결과 NDJSON 스트림 + 마지막 줄에 summary (도중에 실패하면 error 포함)
+     */
+    @PostMapping(value = "/admin/users/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // consumes 와 같은 기준 (대소문자 / charset 등 파라미터 무시)
+        UserImportService.Format format = TEXT_CSV.isCompatibleWith(MediaType.parseMediaType(request.getContentType()))
+                ? UserImportService.Format.CSV : UserImportService.Format.NDJSON;
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        userImportService.importUsers(request.getInputStream(), format, response.getOutputStream());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.onemonth.domain.user;
+
+import com.example.onemonth.global.exception.ErrorCode;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * 로그인 시도 기록 (성공 / 실패)
+ * 스키마 관리용 엔티티이며, 쓰기는 LoginAuditWriter 가 JDBC batch 로 직접 수행
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "login_audit",
+        indexes = @Index(name = "idx_login_audit_username_occurred_at", columnList = "username, occurred_at"))
+public class LoginAudit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "client_ip", length = 45) // IPv6 최대 길이
+    private String clientIp;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false)
+    private boolean success;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR) // MySQL ENUM 컬럼이면 ErrorCode 가 추가될 때마다 ALTER 가 필요하므로 varchar
+    @Column(name = "error_code", length = 64) // 성공이면 null
+    private ErrorCode errorCode;
+}
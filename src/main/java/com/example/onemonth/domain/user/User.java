@@ -1,20 +1,39 @@
 package com.example.onemonth.domain.user;
 
+import com.example.onemonth.global.security.PrincipalCacheEvictListener;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import java.time.Instant;
 
 @Getter
 @Entity
 @NoArgsConstructor
+@EntityListeners(PrincipalCacheEvictListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_username", columnNames = "username"))
 public class User {
+    // 2차 캐시 region 이름 (application.conf 의 caffeine.jcache 설정과 맞춤)
+    public static final String CACHE_REGION = "user";
+    public static final String NATURAL_ID_CACHE_REGION = "user-natural-id";
+
+    // IDENTITY 는 insert 배치가 불가능하므로 pooled 시퀀스 사용 (MySQL 에서는 user_seq 테이블로 동작)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     @Column
     private Long id;
 
+    @NaturalId // 변경 불가, username -> id 해석도 캐시
     @Column(nullable = false)
     private String username;
 
@@ -28,6 +47,10 @@ public class User {
     @Column(nullable = false)
     private UserRole role;
 
+    // LoginAuditWriter 가 JDBC 로만 갱신 (JPA 저장 시 덮어쓰지 않음, 2차 캐시의 값은 만료 전까지 이전 값일 수 있음)
+    @Column(insertable = false, updatable = false)
+    private Instant lastLoginAt;
+
     @Builder
     public User(String username, String nickname, String password, UserRole role) {
         this.username = username;
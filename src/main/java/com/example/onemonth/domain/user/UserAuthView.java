@@ -0,0 +1,8 @@
+package com.example.onemonth.domain.user;
+
+/**
+ * 인증 경로 전용 조회 결과 (id / username / role 만)
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않음
+ */
+public record UserAuthView(Long id, String username, UserRole role) {
+}
@@ -2,16 +2,22 @@ package com.example.onemonth.domain.user;
 
 import com.example.onemonth.domain.user.dto.*;
 import com.example.onemonth.global.common.CommonResponse;
+import com.example.onemonth.global.jwt.JwtAuthenticationFilter;
 import com.example.onemonth.global.security.UserDetailsImpl;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
@@ -24,14 +30,40 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/users/available")
+    public ResponseEntity<CommonResponse> checkUsername(@RequestParam String username) {
+        UsernameAvailabilityDto responseDto = userService.checkUsername(username);
+        CommonResponse response = new CommonResponse<>("아이디 중복 확인", 200, responseDto);
+
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/users/sign")
-    public ResponseEntity<CommonResponse> signUser(@RequestBody SignRequestDto requestDto) {
-        SignResponseDto responseDto = userService.signUser(requestDto);
+    public ResponseEntity<CommonResponse> signUser(@RequestBody SignRequestDto requestDto, HttpServletRequest request) {
+        // 프록시 뒤에서는 server.forward-headers-strategy 설정 시 실제 클라이언트 IP 로 바뀜
+        SignResponseDto responseDto = userService.signUser(requestDto, request.getRemoteAddr());
         CommonResponse response = new CommonResponse<>("로그인 성공", 200, responseDto);
 
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/users/refresh")
+    public ResponseEntity<CommonResponse> refresh(@RequestBody RefreshRequestDto requestDto) {
+        SignResponseDto responseDto = userService.refresh(requestDto);
+        CommonResponse response = new CommonResponse<>("토큰 재발급 성공", 200, responseDto);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/users/logout")
+    public ResponseEntity<CommonResponse> logout(@RequestHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER) String authorization,
+                                                 @RequestBody RefreshRequestDto requestDto) {
+        userService.logout(authorization, requestDto);
+        CommonResponse response = new CommonResponse<>("로그아웃 성공", 200, null);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/check")
     public ResponseEntity<CommonResponse> checkUser(@AuthenticationPrincipal UserDetailsImpl userDetails) {
         CheckDto responseDto = userService.checkSignIn(userDetails);
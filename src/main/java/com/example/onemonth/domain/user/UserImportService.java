@@ -0,0 +1,310 @@
+package com.example.onemonth.domain.user;
+
+import com.example.onemonth.domain.user.dto.SignUpRequestDto;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.example.onemonth.global.util.CsvReader;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 사용자 대량 등록 (NDJSON / CSV 스트리밍)
+ * - 입력은 chunk 단위로만 메모리에 올림
+ * - chunk 마다 : username IN 조회로 중복 확인 -> 패스워드 병렬 해싱 -> saveAll (JDBC 배치 insert)
+ * - 행별 결과는 NDJSON 으로 chunk 마다 바로 응답에 씀
+ */
+@Slf4j
+@Service
+public class UserImportService {
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    public enum Result {
+        CREATED, DUPLICATE, INVALID, FAILED
+    }
+
+    private record Row(long line, String username, String password, String nickname) {
+    }
+
+    // 입력 한 건 (row 가 null 이면 형식 오류)
+    private record Parsed(long line, Row row) {
+    }
+
+    // 빈 줄 / CSV 헤더는 건너뛰고 다음 입력 반환, 끝나면 null
+    private interface RowReader {
+        Parsed next() throws IOException;
+    }
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UsernameFilter usernameFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final ForkJoinPool hashPool;
+
+    public UserImportService(UserRepository userRepository,
+                             PasswordEncoder passwordEncoder,
+                             UsernameFilter usernameFilter,
+                             TransactionTemplate transactionTemplate,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             @Value("${bulk-import.chunk-size:1000}") int chunkSize,
+                             @Value("${bulk-import.parallelism:0}") int parallelism) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.usernameFilter = usernameFilter;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        // 0 이면 CPU 코어 수
+        this.hashPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 응답 상태 (200) 는 이미 보낸 뒤이므로 도중에 실패하면 예외 대신 마지막 줄에 error 를 써서 끝냄
+     * 마지막 줄 : {"summary":{...}} 또는 {"error":"INTERNAL_SERVER_ERROR","abortedAtLine":N,"summary":{...}}
+     * (abortedAtLine 이후 행은 처리되지 않음, 실패한 chunk 는 저장되지 않음)
+     */
+    public void importUsers(InputStream input, Format format, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+        Map<Result, Long> summary = new EnumMap<>(Result.class);
+
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        RowReader rows = format == Format.CSV ? csvRows(reader) : ndjsonRows(reader);
+        try {
+            Parsed parsed;
+            while ((parsed = rows.next()) != null) {
+                Row row = parsed.row();
+                if (row == null) {
+                    writeResult(generator, parsed.line(), null, Result.INVALID, summary);
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, generator, summary);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, generator, summary);
+            }
+        } catch (RuntimeException e) {
+            Long abortedAtLine = chunk.isEmpty() ? null : chunk.get(0).line();
+            log.error("bulk import aborted at line {}", abortedAtLine, e);
+            writeSummary(generator, summary, ErrorCode.INTERNAL_SERVER_ERROR, abortedAtLine);
+            return;
+        }
+
+        writeSummary(generator, summary, null, null);
+    }
+
+    private static void writeSummary(JsonGenerator generator, Map<Result, Long> summary, ErrorCode error,
+                                     Long abortedAtLine) throws IOException {
+        generator.writeStartObject();
+        if (error != null) {
+            generator.writeStringField("error", error.name());
+            if (abortedAtLine != null) {
+                generator.writeNumberField("abortedAtLine", abortedAtLine);
+            }
+        }
+        generator.writeObjectFieldStart("summary");
+        for (Result result : Result.values()) {
+            generator.writeNumberField(result.name().toLowerCase(), summary.getOrDefault(result, 0L));
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    private void importChunk(List<Row> chunk, JsonGenerator generator, Map<Result, Long> summary) throws IOException {
+        // 파일 안에서의 중복 + DB 에 이미 있는 username (IN 조회 한 번)
+        Set<String> seen = new HashSet<>();
+        Set<String> existing = new HashSet<>(userRepository.findExistingUsernames(
+                chunk.stream().map(Row::username).distinct().toList()));
+
+        List<Row> toCreate = new ArrayList<>(chunk.size());
+        Map<Long, Result> results = new LinkedHashMap<>();
+        for (Row row : chunk) {
+            if (existing.contains(row.username()) || !seen.add(row.username())) {
+                results.put(row.line(), Result.DUPLICATE);
+            } else {
+                toCreate.add(row);
+                results.put(row.line(), Result.CREATED);
+            }
+        }
+
+        List<User> users = hashAll(toCreate);
+        saveChunk(toCreate, users, results);
+
+        for (Row row : chunk) {
+            writeResult(generator, row.line(), row.username(), results.get(row.line()), summary);
+        }
+        generator.flush();
+    }
+
+    /**
+     * 패스워드 병렬 해싱 (전용 ForkJoinPool)
+     */
+    private List<User> hashAll(List<Row> rows) {
+        try {
+            return hashPool.submit(() -> rows.parallelStream()
+                    .map(row -> User.builder()
+                            .username(row.username())
+                            .password(passwordEncoder.encode(row.password()))
+                            .nickname(row.nickname())
+                            .role(UserRole.USER)
+                            .build())
+                    .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * chunk 를 한 트랜잭션으로 저장, 동시 가입 등으로 unique 제약에 걸리면 행 단위로 다시 저장
+     */
+    private void saveChunk(List<Row> rows, List<User> users, Map<Long, Result> results) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                ignoreSecondLevelCache();
+                userRepository.saveAll(users);
+            });
+            users.forEach(user -> usernameFilter.add(user.getUsername()));
+        } catch (DataIntegrityViolationException e) {
+            entityManager.clear();
+            for (int i = 0; i < users.size(); i++) {
+                User user = users.get(i);
+                Row row = rows.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        ignoreSecondLevelCache();
+                        userRepository.save(copyOf(user));
+                    });
+                    usernameFilter.add(user.getUsername());
+                } catch (DataIntegrityViolationException duplicate) {
+                    results.put(row.line(), Result.DUPLICATE);
+                } catch (RuntimeException failed) {
+                    log.warn("bulk import failed at line {}", row.line(), failed);
+                    results.put(row.line(), Result.FAILED);
+                }
+                entityManager.clear();
+            }
+        } finally {
+            // open-in-view 로 요청 전체에 묶인 영속성 컨텍스트가 커지지 않도록
+            entityManager.clear();
+        }
+    }
+
+    // 대량 insert 로 2차 캐시가 한 번도 조회되지 않을 사용자로 채워지지 않도록
+    private void ignoreSecondLevelCache() {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+    }
+
+    private static User copyOf(User user) {
+        return User.builder()
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .nickname(user.getNickname())
+                .role(user.getRole())
+                .build();
+    }
+
+    private RowReader ndjsonRows(BufferedReader reader) {
+        long[] lineNumber = {0};
+        return () -> {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long current = ++lineNumber[0];
+                if (!StringUtils.hasText(line)) {
+                    continue;
+                }
+                try {
+                    SignUpRequestDto dto = objectMapper.readValue(line, SignUpRequestDto.class);
+                    return new Parsed(current, toRow(current, dto.getUsername(), dto.getPassword(), dto.getNickname()));
+                } catch (IOException e) {
+                    return new Parsed(current, null);
+                }
+            }
+            return null;
+        };
+    }
+
+    /**
+     * username,password[,nickname] (RFC 4180, 쉼표 / 줄바꿈이 들어간 값은 큰따옴표로 감쌈)
+     * 열이 모자라거나 남는 행은 열이 밀려 저장되지 않도록 INVALID
+     */
+    private static RowReader csvRows(BufferedReader reader) {
+        CsvReader csv = new CsvReader(reader);
+        return () -> {
+            CsvReader.Record record;
+            while ((record = csv.next()) != null) {
+                List<String> fields = record.fields();
+                if (record.malformed()) {
+                    return new Parsed(record.line(), null);
+                }
+                boolean blank = fields.size() == 1 && fields.get(0).isEmpty();
+                boolean header = record.line() == 1 && "username".equals(fields.get(0));
+                if (blank || header) {
+                    continue;
+                }
+                if (fields.size() < 2 || fields.size() > 3) {
+                    return new Parsed(record.line(), null);
+                }
+                return new Parsed(record.line(), toRow(record.line(), fields.get(0), fields.get(1),
+                        fields.size() > 2 ? fields.get(2) : null));
+            }
+            return null;
+        };
+    }
+
+    private static Row toRow(long line, String username, String password, String nickname) {
+        if (!StringUtils.hasText(username) || !StringUtils.hasText(password)) {
+            return null;
+        }
+        return new Row(line, username, password, nickname);
+    }
+
+    private static void writeResult(JsonGenerator generator, long line, String username, Result result,
+                                    Map<Result, Long> summary) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("line", line);
+        if (username != null) {
+            generator.writeStringField("username", username);
+        }
+        generator.writeStringField("result", result.name());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        summary.merge(result, 1L, Long::sum);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdown();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.onemonth.domain.user;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * username(natural id) 기반 조회
+ * Session.bySimpleNaturalId 를 사용하므로 2차 캐시에 있으면 DB 를 조회하지 않음
+ */
+public interface UserNaturalIdRepository {
+    // UserRepository 의 @Transactional(readOnly = true) 는 fragment 메서드에 적용되지 않으므로 직접 지정 (라우팅 사용 시 replica)
+    @Transactional(readOnly = true)
+    Optional<User> findByNaturalId(String username);
+}
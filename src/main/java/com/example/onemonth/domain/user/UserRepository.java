@@ -1,8 +1,36 @@
 package com.example.onemonth.domain.user;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-public interface UserRepository extends JpaRepository<User, Long> {
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+// 조회 메서드는 읽기 전용 트랜잭션 (라우팅 사용 시 replica), save 등은 SimpleJpaRepository 설정대로 primary
+@Transactional(readOnly = true)
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
+    // 2차 캐시를 거치지 않는 JPQL 조회 (엔티티가 필요하면 findByNaturalId 사용)
     Optional<User> findByUsername(String username);
+
+    // 인증 경로 전용 : 필요한 컬럼만 조회 (엔티티 / 패스워드 해시 로딩 없음)
+    @Query("select new com.example.onemonth.domain.user.UserAuthView(u.id, u.username, u.role) from User u where u.username = :username")
+    Optional<UserAuthView> findAuthViewByUsername(@Param("username") String username);
+
+    boolean existsByUsername(String username);
+
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    // MySQL 드라이버가 결과를 한 번에 메모리에 올리지 않도록 fetch size = Integer.MIN_VALUE
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("select u.username from User u")
+    Stream<String> streamAllUsernames();
 }
@@ -1,30 +1,50 @@
 package com.example.onemonth.domain.user;
 
 import com.example.onemonth.domain.user.dto.*;
+import com.example.onemonth.global.audit.LoginAuditTrail;
+import com.example.onemonth.global.datasource.ReadYourWritesTracker;
 import com.example.onemonth.global.exception.CustomException;
 import com.example.onemonth.global.exception.ErrorCode;
 import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.global.jwt.RefreshTokenStore;
+import com.example.onemonth.global.jwt.TokenClaims;
+import com.example.onemonth.global.jwt.TokenRevocationList;
+import com.example.onemonth.global.metrics.AuthMetrics;
+import com.example.onemonth.global.metrics.AuthStage;
+import com.example.onemonth.global.security.LoginRateLimiter;
+import com.example.onemonth.global.security.PasswordHasher;
 import com.example.onemonth.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher; // BCrypt 는 전용 스레드 풀에서 실행
     private final JwtUtil jwtUtil;
+    private final UsernameFilter usernameFilter;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthMetrics authMetrics;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final LoginAuditTrail loginAuditTrail; // 비동기 기록, 로그인 응답을 기다리게 하지 않음
 
     public SignUpResponseDto createUser(SignUpRequestDto requestDto) {
 
-        String password = passwordEncoder.encode(requestDto.getPassword());
-        if(userRepository.findByUsername(requestDto.getUsername()).isPresent()) {
+        // 해싱 전에 중복 확인 (Bloom filter 에서 없다고 하면 DB 조회 생략)
+        if(!isUsernameAvailable(requestDto.getUsername())) {
             throw new CustomException(ErrorCode.USER_ALREADY_EXIST);
         }
 
+        String password = passwordHasher.encode(requestDto.getPassword());
+
         // User 객체 생성
         User user = User.builder()
                 .username(requestDto.getUsername())
@@ -33,8 +53,14 @@ public class UserService {
                 .role(UserRole.USER)  // USER 권한 설정
                 .build();
 
-        // User 저장
-        userRepository.save(user);
+        // User 저장 (동시 가입은 username unique 제약으로 막음)
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(ErrorCode.USER_ALREADY_EXIST);
+        }
+        usernameFilter.add(user.getUsername());
+        readYourWritesTracker.markWritten(user.getUsername()); // 가입 직후 로그인은 primary 에서 조회
 
         // 사용자 권한 리스트 생성
         List<AuthorityDto> authorities = List.of(new AuthorityDto(user.getRole().getAuthority()));
@@ -47,22 +73,143 @@ public class UserService {
                 .build();
     }
 
-    public SignResponseDto signUser(SignRequestDto requestDto) {
+    // Bloom filter 는 인스턴스마다 따로 채워지므로 (다른 인스턴스에서 가입한 이름은 모름) 응답은 항상 DB 기준
+    public UsernameAvailabilityDto checkUsername(String username) {
+        return new UsernameAvailabilityDto(username, !userRepository.existsByUsername(username));
+    }
 
-        User user = userRepository.findByUsername(requestDto.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    private boolean isUsernameAvailable(String username) {
+        return !usernameFilter.mightExist(username) || !userRepository.existsByUsername(username);
+    }
 
-        if(!passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
-            throw new CustomException(ErrorCode.PASSWORD_NOT_CORRECT);
+    public SignResponseDto signUser(SignRequestDto requestDto, String clientIp) {
+
+        AuthStage stage = AuthStage.SIGNIN_RATE_LIMIT;
+        long start = System.nanoTime();
+        try {
+            // DB 조회 / BCrypt 전에 시도 횟수 제한
+            loginRateLimiter.check(requestDto.getUsername(), clientIp);
+            start = authMetrics.success(stage, start);
+
+            stage = AuthStage.SIGNIN_USER_LOOKUP;
+            User user = readYourWritesTracker.read(requestDto.getUsername(),
+                            () -> userRepository.findByNaturalId(requestDto.getUsername()))
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            start = authMetrics.success(stage, start);
+
+            stage = AuthStage.SIGNIN_PASSWORD;
+            if(!passwordHasher.matches(requestDto.getPassword(), user.getPassword())) {
+                throw new CustomException(ErrorCode.PASSWORD_NOT_CORRECT);
+            }
+            authMetrics.success(stage, start);
+
+            stage = null; // 토큰 발급 단계는 issueTokens 에서 기록
+            SignResponseDto responseDto = issueTokens(user.getUsername(), user.getRole(), null);
+            authMetrics.succeeded(AuthMetrics.Pipeline.SIGNIN);
+            loginAuditTrail.success(user.getUsername(), clientIp);
+            return responseDto;
+        } catch (RuntimeException e) {
+            if (stage != null) {
+                authMetrics.failure(stage, start, e);
+            }
+            loginAuditTrail.failure(requestDto.getUsername(), clientIp, e);
+            throw e;
         }
+    }
 
-        String accessToken = jwtUtil.createAccessToken(user.getUsername(),user.getRole());
-        String refreshToken = jwtUtil.createRefreshToken(user.getUsername(),user.getRole());
+    /**
+     * RefreshToken 으로 AccessToken + RefreshToken 재발급
+     * 서명 검증과 저장소 조회만 하고 DB / 패스워드 확인은 하지 않음
+     */
+    public SignResponseDto refresh(RefreshRequestDto requestDto) {
+
+        AuthStage stage = AuthStage.REFRESH_VERIFY;
+        long start = System.nanoTime();
+        try {
+            if (requestDto == null || !StringUtils.hasText(requestDto.getRefreshToken())) {
+                throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+            }
+            TokenClaims claims = jwtUtil.parseRefreshToken(requestDto.getRefreshToken());
+            start = authMetrics.success(stage, start);
+
+            stage = AuthStage.REFRESH_CONSUME;
+            // 재사용 감지 (family 폐기) 가 폐기 목록 확인보다 먼저
+            RefreshTokenStore.Entry entry = refreshTokenStore.consume(claims.getTokenId());
+            if (tokenRevocationList.isRevoked(claims)) {
+                throw new CustomException(ErrorCode.REVOKED_TOKEN);
+            }
+            tokenRevocationList.revokeToken(claims.getTokenId(), claims.getExpiration()); // 사용한 토큰은 재시작 후에도 거부
+            authMetrics.success(stage, start);
+
+            stage = null; // 토큰 발급 단계는 issueTokens 에서 기록
+            SignResponseDto responseDto = issueTokens(entry.username(), entry.role(), entry.familyId(),
+                    AuthMetrics.Pipeline.REFRESH);
+            authMetrics.succeeded(AuthMetrics.Pipeline.REFRESH);
+            return responseDto;
+        } catch (RuntimeException e) {
+            if (stage != null) {
+                authMetrics.failure(stage, start, e);
+            }
+            throw e;
+        }
+    }
 
-        return SignResponseDto.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .build();
+    /**
+     * 로그아웃 : 현재 AccessToken / RefreshToken 폐기 + 같은 세션의 RefreshToken family 폐기
+     * RefreshToken 을 남겨 두면 로그아웃 직후 /users/refresh 로 새 토큰을 받을 수 있으므로 함께 받아서 처리
+     */
+    public void logout(String authorization, RefreshRequestDto requestDto) {
+        TokenClaims claims = jwtUtil.parseAccessToken(jwtUtil.substringToken(authorization));
+        if (requestDto == null || !StringUtils.hasText(requestDto.getRefreshToken())) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        TokenClaims refreshClaims = jwtUtil.parseRefreshToken(requestDto.getRefreshToken());
+        if (!claims.getUsername().equals(refreshClaims.getUsername())) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        tokenRevocationList.revokeToken(claims.getTokenId(), claims.getExpiration());
+        tokenRevocationList.revokeToken(refreshClaims.getTokenId(), refreshClaims.getExpiration());
+        refreshTokenStore.revokeFamilyOf(refreshClaims.getTokenId());
+    }
+
+    /**
+     * 사용자가 지금까지 발급받은 토큰 전체 폐기 (관리자)
+     */
+    public void revokeUserTokens(String username) {
+        tokenRevocationList.revokeUser(username, System.currentTimeMillis());
+    }
+
+    /**
+     * AccessToken + RefreshToken 발급 (메모리 작업만 하므로 reactive 모드에서도 그대로 사용)
+     * 로그인 후 발급이므로 실패는 signin 파이프라인으로 집계 (재발급은 refresh)
+     */
+    public SignResponseDto issueTokens(String username, UserRole role, String familyId) {
+        return issueTokens(username, role, familyId, AuthMetrics.Pipeline.SIGNIN);
+    }
+
+    private SignResponseDto issueTokens(String username, UserRole role, String familyId, AuthMetrics.Pipeline pipeline) {
+        AuthStage stage = AuthStage.ISSUE_ACCESS_TOKEN;
+        long start = System.nanoTime();
+        try {
+            String accessToken = jwtUtil.createAccessToken(username, role);
+            start = authMetrics.success(stage, start);
+
+            stage = AuthStage.ISSUE_REFRESH_TOKEN;
+            String refreshTokenId = UUID.randomUUID().toString();
+            String refreshToken = jwtUtil.createRefreshToken(username, role, refreshTokenId);
+            refreshTokenStore.register(refreshTokenId, username, role, familyId,
+                    System.currentTimeMillis() + jwtUtil.getRefreshTokenExpiration());
+            authMetrics.success(stage, start);
+
+            return SignResponseDto.builder()
+                    .accessToken(accessToken)
+                    .refreshToken(refreshToken)
+                    .build();
+        } catch (RuntimeException e) {
+            authMetrics.failure(pipeline, stage, start, e);
+            throw e;
+        }
     }
 
     public CheckDto checkSignIn(UserDetailsImpl userDetails) {
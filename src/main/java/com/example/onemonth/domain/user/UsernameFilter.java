@@ -0,0 +1,68 @@
+package com.example.onemonth.domain.user;
+
+import com.example.onemonth.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * 가입된 username 의 Bloom filter
+ * 회원가입 시 BCrypt 와 DB 조회 전에 "확실히 없는 이름" 을 걸러냄
+ * 기동 직후 워밍업이 끝나기 전에는 항상 DB 를 확인하도록 true 반환
+ * 인스턴스마다 따로 채워지므로 다른 인스턴스에서 가입한 이름은 모름
+ * - 회원가입은 username unique 제약이 최종 판단이라 문제없음 (BCrypt 한 번 낭비)
+ * - 중복 확인 API (GET /users/available) 는 이 필터를 쓰지 않고 항상 DB 확인
+ */
+@Slf4j
+@Component
+public class UsernameFilter {
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BloomFilter bloomFilter;
+    private volatile boolean ready = false;
+
+    public UsernameFilter(UserRepository userRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${username-filter.expected-insertions:1000000}") long expectedInsertions,
+                          @Value("${username-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 기동 시 기존 username 으로 필터 채우기
+     * 실패하면 (MySQL 전용 스트리밍 fetch size 를 지원하지 않는 DB 등) 필터 없이 항상 DB 확인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            // 스트림은 트랜잭션 안에서 모두 소비
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+                    usernames.forEach(bloomFilter::put);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("username filter warm-up failed, falling back to database checks", e);
+            return;
+        }
+        ready = true;
+        log.info("username filter warmed up");
+    }
+
+    public boolean mightExist(String username) {
+        return !ready || bloomFilter.mightContain(username);
+    }
+
+    public void add(String username) {
+        bloomFilter.put(username);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.onemonth.domain.user.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RefreshRequestDto {
+    private String refreshToken;
+
+    public RefreshRequestDto(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.onemonth.domain.user.dto;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.jwt.TokenIntrospector;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+// 토큰 하나의 검증 결과 (유효하면 username / role / expiresIn, 아니면 error / message)
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionDto {
+    private boolean active;
+    private String username;
+    private UserRole role;
+    private Long expiresIn; // 남은 유효 시간 (초)
+    private String error;   // ErrorCode 이름
+    private String message;
+
+    public static TokenIntrospectionDto from(TokenIntrospector.Result result, long now) {
+        if (!result.active()) {
+            return TokenIntrospectionDto.builder()
+                    .active(false)
+                    .error(result.error().name())
+                    .message(result.error().getMessage())
+                    .build();
+        }
+        return TokenIntrospectionDto.builder()
+                .active(true)
+                .username(result.claims().getUsername())
+                .role(result.claims().getRole())
+                .expiresIn(Math.max(0L, (result.claims().getExpiration() - now) / 1000))
+                .build();
+    }
+}
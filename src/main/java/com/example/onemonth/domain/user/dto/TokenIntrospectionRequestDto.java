@@ -0,0 +1,12 @@
+package com.example.onemonth.domain.user.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class TokenIntrospectionRequestDto {
+    private List<String> tokens; // AccessToken / RefreshToken ("Bearer " 접두사 허용)
+}
@@ -0,0 +1,11 @@
+package com.example.onemonth.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UsernameAvailabilityDto {
+    private String username;
+    private boolean available;
+}
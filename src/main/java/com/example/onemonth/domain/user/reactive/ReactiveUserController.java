@@ -0,0 +1,51 @@
+package com.example.onemonth.domain.user.reactive;
+
+import com.example.onemonth.domain.user.dto.SignRequestDto;
+import com.example.onemonth.domain.user.dto.SignUpRequestDto;
+import com.example.onemonth.global.common.CommonResponse;
+import com.example.onemonth.global.security.UserDetailsImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * UserController 와 같은 경로 / 응답 형태의 WebFlux 버전 (reactive 프로파일)
+ * 가입 / 로그인 / 로그인 체크만 제공
+ */
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveUserController {
+    private final ReactiveUserService userService;
+
+    @PostMapping("/users/signup")
+    public Mono<ResponseEntity<CommonResponse>> createUser(@RequestBody SignUpRequestDto requestDto) {
+        return userService.createUser(requestDto)
+                .map(responseDto -> ResponseEntity.ok(new CommonResponse<>("회원가입 성공", 201, responseDto)));
+    }
+
+    @PostMapping("/users/sign")
+    public Mono<ResponseEntity<CommonResponse>> signUser(@RequestBody SignRequestDto requestDto, ServerHttpRequest request) {
+        // 프록시 뒤에서는 server.forward-headers-strategy 설정 시 실제 클라이언트 IP 로 바뀜
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        String clientIp = remoteAddress == null ? "unknown"
+                : remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+
+        return userService.signUser(requestDto, clientIp)
+                .map(responseDto -> ResponseEntity.ok(new CommonResponse<>("로그인 성공", 200, responseDto)));
+    }
+
+    @GetMapping("/check")
+    public Mono<ResponseEntity<CommonResponse>> checkUser(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return Mono.just(ResponseEntity.ok(new CommonResponse<>("로그인 체크", 200, userService.checkSignIn(userDetails))));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.onemonth.domain.user.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC User repository (reactive 프로파일에서만 R2DBC repository 자동 설정이 켜짐)
+ */
+public interface ReactiveUserRepository extends R2dbcRepository<UserRecord, Long> {
+    Mono<UserRecord> findByUsername(String username);
+
+    Mono<Boolean> existsByUsername(String username);
+}
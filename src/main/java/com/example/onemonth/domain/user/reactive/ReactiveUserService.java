@@ -0,0 +1,111 @@
+package com.example.onemonth.domain.user.reactive;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.domain.user.UserService;
+import com.example.onemonth.domain.user.UsernameFilter;
+import com.example.onemonth.domain.user.dto.*;
+import com.example.onemonth.global.audit.LoginAuditTrail;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.example.onemonth.global.metrics.AuthMetrics;
+import com.example.onemonth.global.metrics.AuthStage;
+import com.example.onemonth.global.security.LoginRateLimiter;
+import com.example.onemonth.global.security.PasswordHasher;
+import com.example.onemonth.global.security.UserDetailsImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * UserService 의 논블로킹 버전 (reactive 프로파일)
+ * - DB 는 R2DBC, BCrypt 는 PasswordHasher 의 제한된 풀에서 실행하고 이벤트 루프에서는 기다리지 않음
+ * - 시도 횟수 제한 / username 필터 / 토큰 발급 / 메트릭은 서블릿 모드와 같은 빈 사용
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveUserService {
+    private final ReactiveUserRepository userRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final UserIdAllocator userIdAllocator;
+    private final PasswordHasher passwordHasher;
+    private final UsernameFilter usernameFilter;
+    private final LoginRateLimiter loginRateLimiter;
+    private final AuthMetrics authMetrics;
+    private final UserService userService;
+    private final LoginAuditTrail loginAuditTrail;
+
+    public Mono<SignUpResponseDto> createUser(SignUpRequestDto requestDto) {
+        String username = requestDto.getUsername();
+
+        // 해싱 전에 중복 확인 (Bloom filter 에서 없다고 하면 DB 조회 생략)
+        return isUsernameAvailable(username)
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.USER_ALREADY_EXIST)))
+                .then(passwordHasher.encodeAsync(requestDto.getPassword()))
+                .flatMap(password -> userIdAllocator.nextId()
+                        .map(id -> new UserRecord(id, username, requestDto.getNickname(), password, UserRole.USER)))
+                .flatMap(entityTemplate::insert)
+                // 동시 가입은 username unique 제약으로 막음
+                .onErrorMap(DataIntegrityViolationException.class, e -> new CustomException(ErrorCode.USER_ALREADY_EXIST))
+                .map(user -> {
+                    usernameFilter.add(user.username());
+
+                    return SignUpResponseDto.builder()
+                            .username(user.username())
+                            .nickname(user.nickname())
+                            .authorities(List.of(new AuthorityDto(user.role().getAuthority())))
+                            .build();
+                });
+    }
+
+    private Mono<Boolean> isUsernameAvailable(String username) {
+        if (!usernameFilter.mightExist(username)) {
+            return Mono.just(true);
+        }
+        return userRepository.existsByUsername(username).map(exists -> !exists);
+    }
+
+    public Mono<SignResponseDto> signUser(SignRequestDto requestDto, String clientIp) {
+        return Mono.defer(() -> {
+            // DB 조회 / BCrypt 전에 시도 횟수 제한
+            long start = System.nanoTime();
+            try {
+                loginRateLimiter.check(requestDto.getUsername(), clientIp);
+            } catch (RuntimeException e) {
+                authMetrics.failure(AuthStage.SIGNIN_RATE_LIMIT, start, e);
+                return Mono.error(e);
+            }
+            long lookupStart = authMetrics.success(AuthStage.SIGNIN_RATE_LIMIT, start);
+
+            return userRepository.findByUsername(requestDto.getUsername())
+                    .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.USER_NOT_FOUND)))
+                    .doOnError(Exception.class, e -> authMetrics.failure(AuthStage.SIGNIN_USER_LOOKUP, lookupStart, e))
+                    .flatMap(user -> {
+                        long passwordStart = authMetrics.success(AuthStage.SIGNIN_USER_LOOKUP, lookupStart);
+                        return passwordHasher.matchesAsync(requestDto.getPassword(), user.password())
+                                .flatMap(matched -> matched ? Mono.just(user)
+                                        : Mono.error(new CustomException(ErrorCode.PASSWORD_NOT_CORRECT)))
+                                .doOnNext(matchedUser -> authMetrics.success(AuthStage.SIGNIN_PASSWORD, passwordStart))
+                                .doOnError(Exception.class, e -> authMetrics.failure(AuthStage.SIGNIN_PASSWORD, passwordStart, e));
+                    })
+                    .map(user -> {
+                        SignResponseDto responseDto = userService.issueTokens(user.username(), user.role(), null);
+                        authMetrics.succeeded(AuthMetrics.Pipeline.SIGNIN);
+                        return responseDto;
+                    });
+        })
+                // 시도 횟수 제한에 걸린 경우까지 서블릿 모드와 같이 기록
+                .doOnNext(responseDto -> loginAuditTrail.success(requestDto.getUsername(), clientIp))
+                .doOnError(e -> loginAuditTrail.failure(requestDto.getUsername(), clientIp, e));
+    }
+
+    public CheckDto checkSignIn(UserDetailsImpl userDetails) {
+        return userService.checkSignIn(userDetails);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.onemonth.domain.user.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * R2DBC 로 가입할 때의 User id 할당
+ * JPA (User 의 @SequenceGenerator, pooled optimizer) 와 같은 user_seq 테이블 / 같은 규칙을 사용하므로
+ * 서블릿 모드 인스턴스와 DB 를 같이 써도 id 가 겹치지 않음
+ * - next_val 을 FOR UPDATE 로 읽은 값 V 를 V + 50 으로 갱신하고 [V - 49, V] 구간을 메모리에서 나눠 줌
+ * - 구간을 다 쓰면 다시 예약, 동시에 구간이 바닥난 요청들은 진행 중인 예약 하나를 함께 기다림
+ *   (요청마다 user_seq 행 락을 잡고 50 개씩 버리지 않도록)
+ */
+@Component
+@Profile("reactive")
+public class UserIdAllocator {
+    private static final int ALLOCATION_SIZE = 50; // User 의 allocationSize 와 같아야 함
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final AtomicReference<Block> current = new AtomicReference<>(new Block(1L, 0L));
+    private final AtomicReference<Mono<Block>> reserving = new AtomicReference<>(); // 진행 중인 예약 (없으면 null)
+
+    @Autowired
+    public UserIdAllocator(DatabaseClient databaseClient, ConnectionFactory connectionFactory) {
+        // JPA 트랜잭션 매니저와 함께 빈으로 두면 @Transactional 기본 매니저를 정할 수 없으므로 여기서만 사용
+        this(databaseClient, TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)));
+    }
+
+    public UserIdAllocator(DatabaseClient databaseClient, TransactionalOperator transactionalOperator) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    public Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            Block block = current.get();
+            long id = block.take();
+            if (id > 0) {
+                return Mono.just(id);
+            }
+            // 새 구간도 다른 요청들이 먼저 다 써 버렸으면 다시 시도
+            return refill(block).flatMap(next -> {
+                long first = next.take();
+                return first > 0 ? Mono.just(first) : nextId();
+            });
+        });
+    }
+
+    /**
+     * exhausted 다음 구간 : 이미 교체되었으면 그 구간, 예약 중이면 그 결과, 아니면 새로 예약
+     * 예약은 요청한 쪽이 취소해도 끝까지 진행 (예약한 구간을 버리지 않도록)
+     */
+    private Mono<Block> refill(Block exhausted) {
+        while (true) {
+            Mono<Block> pending = reserving.get();
+            if (pending != null) {
+                return pending;
+            }
+            Block latest = current.get();
+            if (latest != exhausted) {
+                return Mono.just(latest);
+            }
+
+            Sinks.One<Block> sink = Sinks.one();
+            Mono<Block> shared = sink.asMono();
+            if (!reserving.compareAndSet(null, shared)) {
+                continue;
+            }
+            reserve().subscribe(
+                    block -> {
+                        current.set(block); // 예약 표시를 지우기 전에 교체해야 뒤이은 요청이 중복 예약하지 않음
+                        reserving.set(null);
+                        sink.tryEmitValue(block);
+                    },
+                    error -> {
+                        reserving.set(null);
+                        sink.tryEmitError(error);
+                    });
+            return shared;
+        }
+    }
+
+    private Mono<Block> reserve() {
+        return databaseClient.sql("select next_val from user_seq for update")
+                .map(row -> row.get("next_val", Long.class))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("user_seq 테이블이 비어 있습니다.")))
+                .flatMap(hi -> databaseClient.sql("update user_seq set next_val = :next")
+                        .bind("next", hi + ALLOCATION_SIZE)
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(new Block(Math.max(1L, hi - ALLOCATION_SIZE + 1), hi)))
+                .as(transactionalOperator::transactional);
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long hi;
+
+        Block(long first, long hi) {
+            this.next = new AtomicLong(first);
+            this.hi = hi;
+        }
+
+        // 구간을 다 썼으면 -1
+        long take() {
+            long id = next.getAndIncrement();
+            return id <= hi ? id : -1L;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.onemonth.domain.user.reactive;
+
+import com.example.onemonth.domain.user.UserRole;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC 용 user 테이블 매핑 (reactive 프로파일, 스키마는 JPA 엔티티 User 가 관리)
+ * role 은 JPA 기본 매핑 (ORDINAL) 과 같이 숫자로 저장
+ * id 는 UserIdAllocator 가 할당하므로 저장은 repository.save 가 아닌 R2dbcEntityTemplate.insert 사용
+ */
+@Table("user")
+public record UserRecord(@Id Long id,
+                         String username,
+                         String nickname,
+                         String password,
+                         @Column("role") int roleOrdinal) {
+
+    public UserRecord(Long id, String username, String nickname, String password, UserRole role) {
+        this(id, username, nickname, password, role.ordinal());
+    }
+
+    public UserRole role() {
+        return UserRole.values()[roleOrdinal];
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.onemonth.global.audit;
+
+import com.example.onemonth.global.exception.ErrorCode;
+
+/**
+ * 로그인 시도 한 건
+ *
+ * @param occurredAt epoch millis
+ * @param errorCode  성공이면 null
+ */
+public record LoginAuditEvent(String username, String clientIp, long occurredAt, ErrorCode errorCode) {
+
+    public boolean success() {
+        return errorCode == null;
+    }
+}
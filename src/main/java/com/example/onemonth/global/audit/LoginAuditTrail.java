@@ -0,0 +1,79 @@
+package com.example.onemonth.global.audit;
+
+import com.example.onemonth.global.config.LoginAuditConfig;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.example.onemonth.global.util.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 로그인 감사 기록의 발행 쪽 (UserService.signUser / ReactiveUserService.signUser 에서 호출)
+ * - 링 버퍼에 넣기만 하고 바로 반환 (DB 쓰기는 LoginAuditWriter 스레드)
+ * - 버퍼가 가득 차면 기다리지 않고 버림 : login.audit.dropped{reason=buffer_full}
+ */
+@Component
+public class LoginAuditTrail {
+    private final boolean enabled;
+    private final MpscRingBuffer<LoginAuditEvent> buffer;
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+
+    public LoginAuditTrail(LoginAuditConfig config, MeterRegistry meterRegistry) {
+        this.enabled = config.isEnabled();
+        this.buffer = new MpscRingBuffer<>(config.getBufferSize() > 0 ? config.getBufferSize() : 8192);
+
+        Gauge.builder("login.audit.buffer.size", buffer, MpscRingBuffer::size).register(meterRegistry);
+        this.publishedCounter = Counter.builder("login.audit.published").register(meterRegistry);
+        this.droppedCounter = Counter.builder("login.audit.dropped").tag("reason", "buffer_full").register(meterRegistry);
+    }
+
+    private static final int USERNAME_MAX_LENGTH = 255; // login_audit.username
+    private static final int CLIENT_IP_MAX_LENGTH = 45;  // login_audit.client_ip
+
+    public void success(String username, String clientIp) {
+        publish(username, clientIp, null);
+    }
+
+    public void failure(String username, String clientIp, Throwable e) {
+        ErrorCode errorCode = e instanceof CustomException customException && customException.getErrorCode() != null
+                ? customException.getErrorCode() : ErrorCode.INTERNAL_SERVER_ERROR;
+        publish(username, clientIp, errorCode);
+    }
+
+    private void publish(String username, String clientIp, ErrorCode errorCode) {
+        if (!enabled) {
+            return;
+        }
+        // 잘못된 요청 한 건이 batch 전체를 실패시키지 않도록 컬럼 제약에 맞춤
+        LoginAuditEvent event = new LoginAuditEvent(truncate(username == null ? "" : username, USERNAME_MAX_LENGTH),
+                truncate(clientIp, CLIENT_IP_MAX_LENGTH), System.currentTimeMillis(), errorCode);
+        if (buffer.offer(event)) {
+            publishedCounter.increment();
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // LoginAuditWriter 전용 (단일 소비자)
+
+    int drain(Consumer<LoginAuditEvent> consumer, int limit) {
+        return buffer.drain(consumer, limit);
+    }
+
+    double fillRatio() {
+        return (double) buffer.size() / buffer.capacity();
+    }
+}
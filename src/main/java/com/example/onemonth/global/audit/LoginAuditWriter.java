@@ -0,0 +1,321 @@
+package com.example.onemonth.global.audit;
+
+import com.example.onemonth.global.config.LoginAuditConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoginAuditTrail 의 링 버퍼를 비우는 백그라운드 스레드
+ * - batch-size 만큼 모이거나 flush-interval 이 지나면 login_audit insert + user.last_login_at update 를 JDBC batch 로 한 트랜잭션에 기록
+ * - 버퍼가 spill-watermark 이상 차 있거나 (DB 가 따라오지 못함) DB 기록이 실패하면 spill-path 에 NDJSON 으로 기록
+ *   (spill-path 가 없으면 버림 : login.audit.dropped{reason=db_unavailable})
+ * - 할 일이 없을 때 파일에 남은 기록을 조금씩 DB 로 옮김 (재시작 / 재시도 시 중복될 수 있음, at-least-once)
+ */
+@Slf4j
+@Component
+public class LoginAuditWriter {
+    private static final String INSERT_AUDIT =
+            "insert into login_audit (username, client_ip, occurred_at, success, error_code) values (?, ?, ?, ?, ?)";
+    // 늦게 도착한 이전 기록으로 덮어쓰지 않음
+    private static final String UPDATE_LAST_LOGIN =
+            "update user set last_login_at = ? where username = ? and (last_login_at is null or last_login_at < ?)";
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int REPLAY_BATCHES_PER_TURN = 10; // 재처리가 새 기록 처리를 오래 막지 않도록
+
+    private final LoginAuditTrail trail;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final double spillWatermark;
+    private final long retryBackoffNanos;
+    private final Path spillPath;   // null 이면 spill 하지 않음
+    private final Path replayPath;
+
+    private final Counter writtenCounter;
+    private final Counter spilledCounter;
+    private final Counter replayedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    // 아래는 writer 스레드에서만 사용
+    private final List<LoginAuditEvent> pending = new ArrayList<>();
+    private long firstPendingAt;
+    private long dbRetryAt = System.nanoTime();
+    private BufferedWriter spillWriter;
+    private boolean spillPending;
+    private long replayOffset; // .replay 파일에서 이미 DB 로 옮긴 줄 수
+
+    public LoginAuditWriter(LoginAuditTrail trail, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper, LoginAuditConfig config, MeterRegistry meterRegistry) {
+        this.trail = trail;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, config.getBatchSize());
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, config.getFlushIntervalMillis()));
+        this.spillWatermark = config.getSpillWatermark() > 0 ? config.getSpillWatermark() : 0.75;
+        this.retryBackoffNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, config.getRetryBackoffMillis()));
+        this.spillPath = StringUtils.hasText(config.getSpillPath()) ? Paths.get(config.getSpillPath()) : null;
+        this.replayPath = spillPath != null ? spillPath.resolveSibling(spillPath.getFileName() + ".replay") : null;
+
+        this.writtenCounter = Counter.builder("login.audit.written").register(meterRegistry);
+        this.spilledCounter = Counter.builder("login.audit.spilled").register(meterRegistry);
+        this.replayedCounter = Counter.builder("login.audit.replayed").register(meterRegistry);
+        this.droppedCounter = Counter.builder("login.audit.dropped").tag("reason", "db_unavailable").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!trail.isEnabled()) {
+            return;
+        }
+        spillPending = spillPath != null && (Files.exists(spillPath) || Files.exists(replayPath));
+        running = true;
+        thread = new Thread(this::run, "login-audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (!poll()) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            } catch (RuntimeException e) {
+                log.error("login audit writer failed", e);
+            }
+        }
+
+        // 종료 : 버퍼에 남은 기록까지 모두 처리
+        try {
+            while (trail.drain(pending::add, batchSize - pending.size()) > 0 || !pending.isEmpty()) {
+                flush();
+            }
+        } finally {
+            closeSpill();
+        }
+    }
+
+    /**
+     * @return 처리한 것이 있으면 true (없으면 잠시 쉼)
+     */
+    private boolean poll() {
+        int drained = trail.drain(event -> {
+            if (pending.isEmpty()) {
+                firstPendingAt = System.nanoTime();
+            }
+            pending.add(event);
+        }, batchSize - pending.size());
+
+        if (pending.size() >= batchSize
+                || (!pending.isEmpty() && System.nanoTime() - firstPendingAt >= flushIntervalNanos)) {
+            flush();
+            return true;
+        }
+        if (drained == 0 && pending.isEmpty() && spillPending && System.nanoTime() - dbRetryAt >= 0) {
+            replaySpill();
+            return spillPending;
+        }
+        return drained > 0;
+    }
+
+    private void flush() {
+        boolean behind = trail.fillRatio() >= spillWatermark;
+        if (behind || System.nanoTime() - dbRetryAt < 0) {
+            spill(pending);
+        } else {
+            try {
+                write(pending);
+                writtenCounter.increment(pending.size());
+            } catch (RuntimeException e) {
+                log.warn("login audit write failed, spilling {} events for {} ms", pending.size(),
+                        TimeUnit.NANOSECONDS.toMillis(retryBackoffNanos), e);
+                dbRetryAt = System.nanoTime() + retryBackoffNanos;
+                spill(pending);
+            }
+        }
+        pending.clear();
+    }
+
+    private void write(List<LoginAuditEvent> events) {
+        // 같은 batch 안에서는 사용자별 가장 최근 성공만 반영
+        Map<String, Long> lastLogins = new HashMap<>();
+        for (LoginAuditEvent event : events) {
+            if (event.success()) {
+                lastLogins.merge(event.username(), event.occurredAt(), Math::max);
+            }
+        }
+
+        // Hibernate 가 Instant 를 UTC 로 저장하므로 JVM 기본 시간대가 아닌 UTC 로 바인딩 (hibernate.jdbc.time_zone)
+        Calendar utc = Calendar.getInstance(UTC);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_AUDIT, events, events.size(), (ps, event) -> {
+                ps.setString(1, event.username());
+                ps.setString(2, event.clientIp());
+                ps.setTimestamp(3, new Timestamp(event.occurredAt()), utc);
+                ps.setBoolean(4, event.success());
+                ps.setString(5, event.errorCode() == null ? null : event.errorCode().name());
+            });
+            if (!lastLogins.isEmpty()) {
+                List<Map.Entry<String, Long>> entries = new ArrayList<>(lastLogins.entrySet());
+                jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, entries, entries.size(), (ps, entry) -> {
+                    Timestamp lastLoginAt = new Timestamp(entry.getValue());
+                    ps.setTimestamp(1, lastLoginAt, utc);
+                    ps.setString(2, entry.getKey());
+                    ps.setTimestamp(3, lastLoginAt, utc);
+                });
+            }
+        });
+    }
+
+    // spill 파일
+
+    private void spill(List<LoginAuditEvent> events) {
+        if (spillPath == null) {
+            droppedCounter.increment(events.size());
+            return;
+        }
+        try {
+            if (spillWriter == null) {
+                if (spillPath.getParent() != null) {
+                    Files.createDirectories(spillPath.getParent());
+                }
+                spillWriter = Files.newBufferedWriter(spillPath, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            for (LoginAuditEvent event : events) {
+                spillWriter.write(objectMapper.writeValueAsString(event));
+                spillWriter.newLine();
+            }
+            spillWriter.flush();
+            spilledCounter.increment(events.size());
+            spillPending = true;
+        } catch (IOException e) {
+            log.warn("login audit spill failed, dropping {} events", events.size(), e);
+            closeSpill();
+            droppedCounter.increment(events.size());
+        }
+    }
+
+    /**
+     * spill 파일을 .replay 로 옮긴 뒤 최대 REPLAY_BATCHES_PER_TURN 개 batch 만큼 DB 로 기록
+     * 그동안 새로 밀려나는 기록은 새 spill 파일에 쌓이고, .replay 를 다 옮기면 다음 차례에 이어서 처리
+     */
+    private void replaySpill() {
+        try {
+            if (!Files.exists(replayPath)) {
+                if (!Files.exists(spillPath)) {
+                    spillPending = false;
+                    return;
+                }
+                closeSpill();
+                Files.move(spillPath, replayPath, StandardCopyOption.ATOMIC_MOVE);
+                replayOffset = 0;
+            }
+
+            List<LoginAuditEvent> batch = new ArrayList<>(batchSize);
+            int batches = 0;
+            long line = 0;
+            boolean finished = true;
+            try (BufferedReader reader = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8)) {
+                String text;
+                while ((text = reader.readLine()) != null) {
+                    if (line++ < replayOffset || text.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        batch.add(objectMapper.readValue(text, LoginAuditEvent.class));
+                    } catch (JsonProcessingException e) {
+                        log.warn("skipping malformed login audit spill line {}", line); // 기록 중 종료된 마지막 줄 등
+                    }
+                    if (batch.size() == batchSize) {
+                        replay(batch, line);
+                        if (++batches == REPLAY_BATCHES_PER_TURN) {
+                            finished = false;
+                            break;
+                        }
+                    }
+                }
+            }
+            replay(batch, line);
+
+            if (finished) {
+                Files.delete(replayPath);
+                replayOffset = 0;
+                spillPending = Files.exists(spillPath);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("login audit spill replay failed, retrying in {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(retryBackoffNanos), e);
+            dbRetryAt = System.nanoTime() + retryBackoffNanos;
+        }
+    }
+
+    private void replay(List<LoginAuditEvent> batch, long line) {
+        if (!batch.isEmpty()) {
+            write(batch);
+            replayedCounter.increment(batch.size());
+            batch.clear();
+        }
+        replayOffset = line;
+    }
+
+    private void closeSpill() {
+        if (spillWriter == null) {
+            return;
+        }
+        try {
+            spillWriter.close();
+        } catch (IOException e) {
+            log.warn("failed to close login audit spill file", e);
+        }
+        spillWriter = null;
+    }
+}
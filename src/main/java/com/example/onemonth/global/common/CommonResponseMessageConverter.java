@@ -0,0 +1,46 @@
+package com.example.onemonth.global.common;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+
+/**
+ * 컨트롤러가 반환하는 CommonResponse 를 JsonResponseWriter 의 캐시된 ObjectWriter 로 작성
+ * HttpMessageConverter 빈은 Spring Boot 가 기본 Jackson 컨버터보다 앞에 등록
+ */
+@Component
+public class CommonResponseMessageConverter extends AbstractHttpMessageConverter<CommonResponse<?>> {
+    private final JsonResponseWriter jsonResponseWriter;
+
+    public CommonResponseMessageConverter(JsonResponseWriter jsonResponseWriter) {
+        super(MediaType.APPLICATION_JSON);
+        this.jsonResponseWriter = jsonResponseWriter;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CommonResponse.class.isAssignableFrom(clazz);
+    }
+
+    // 응답 전용 (요청 본문은 기본 Jackson 컨버터가 처리)
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected CommonResponse<?> readInternal(Class<? extends CommonResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("CommonResponse 는 읽을 수 없습니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(CommonResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        jsonResponseWriter.writerFor(response).writeValue(StreamUtils.nonClosing(outputMessage.getBody()), response);
+    }
+}
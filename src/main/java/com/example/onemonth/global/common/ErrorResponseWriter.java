@@ -0,0 +1,125 @@
+package com.example.onemonth.global.common;
+
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * CommonErrorResponse 형태의 에러 응답을 바이트로 바로 작성
+ * - ErrorCode 별 본문은 기동 시 미리 인코딩하고 timestamp 만 끼워 넣음
+ * - timestamp 는 초 단위로 캐시
+ * - ObjectMapper / 응답 객체를 요청마다 만들지 않음
+ */
+@Component
+public class ErrorResponseWriter {
+    public static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<ErrorCode, byte[]> prefixes = new EnumMap<>(ErrorCode.class);
+    private final ZoneId zoneId = ZoneId.systemDefault();
+    private volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(Long.MIN_VALUE, new byte[0]);
+
+    public ErrorResponseWriter() {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            prefixes.put(errorCode, prefix(errorCode.getStatus(), errorCode.getMessage()));
+        }
+    }
+
+    public void write(HttpServletResponse response, CustomException e) throws IOException {
+        if (e.getErrorCode() != null) {
+            write(response, e.getErrorCode());
+        } else {
+            write(response, e.getStatusCode(), e.getMessage());
+        }
+    }
+
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        write(response, errorCode.getStatus(), prefixes.get(errorCode));
+    }
+
+    /**
+     * ErrorCode 가 아닌 동적 메시지 (검증 실패 등)
+     */
+    public void write(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        write(response, status, prefix(status, message));
+    }
+
+    /**
+     * 응답 본문만 바이트로 (HttpServletResponse 가 없는 WebFlux 용)
+     */
+    public byte[] render(CustomException e) {
+        return e.getErrorCode() != null ? render(e.getErrorCode()) : render(e.getStatusCode(), e.getMessage());
+    }
+
+    public byte[] render(ErrorCode errorCode) {
+        return render(prefixes.get(errorCode));
+    }
+
+    public byte[] render(HttpStatus status, String message) {
+        return render(prefix(status, message));
+    }
+
+    private byte[] render(byte[] prefix) {
+        byte[] timestamp = timestamp();
+        byte[] body = new byte[prefix.length + timestamp.length + SUFFIX.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(timestamp, 0, body, prefix.length, timestamp.length);
+        System.arraycopy(SUFFIX, 0, body, prefix.length + timestamp.length, SUFFIX.length);
+        return body;
+    }
+
+    private void write(HttpServletResponse response, HttpStatus status, byte[] prefix) throws IOException {
+        byte[] timestamp = timestamp();
+
+        response.setStatus(status.value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(prefix.length + timestamp.length + SUFFIX.length);
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(prefix);
+        out.write(timestamp);
+        out.write(SUFFIX);
+        out.flush();
+    }
+
+    /**
+     * {"message":"...","error":"...","statusCode":000,"timestamp":"
+     */
+    private static byte[] prefix(HttpStatus status, String message) {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        String json = "{\"message\":\"" + new String(encoder.quoteAsString(message == null ? "" : message))
+                + "\",\"error\":\"" + new String(encoder.quoteAsString(status.getReasonPhrase()))
+                + "\",\"statusCode\":" + status.value()
+                + ",\"timestamp\":\"";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] timestamp() {
+        long second = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = cachedTimestamp;
+        if (cached.second() != second) {
+            LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), zoneId);
+            cached = new CachedTimestamp(second,
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(now).getBytes(StandardCharsets.US_ASCII));
+            cachedTimestamp = cached;
+        }
+        return cached.bytes();
+    }
+
+    private record CachedTimestamp(long second, byte[] bytes) {
+    }
+}
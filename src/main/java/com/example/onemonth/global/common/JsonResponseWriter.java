@@ -0,0 +1,33 @@
+package com.example.onemonth.global.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CommonResponse 직렬화
+ * - 공유 ObjectMapper 사용 (요청마다 / 클래스마다 새로 만들지 않음)
+ * - result 타입별 ObjectWriter 를 캐시해서 직렬화기 탐색을 한 번만 수행
+ * - String 으로 만들지 않고 출력 스트림에 바로 작성 (CommonResponseMessageConverter)
+ */
+@Component
+public class JsonResponseWriter {
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JsonResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * CommonResponse<resultType> 전용 writer
+     */
+    public ObjectWriter writerFor(CommonResponse<?> response) {
+        Class<?> resultType = response.getResult() == null ? Object.class : response.getResult().getClass();
+        return writers.computeIfAbsent(resultType, type -> objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructParametricType(CommonResponse.class, type)));
+    }
+}
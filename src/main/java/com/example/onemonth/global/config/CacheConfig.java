@@ -0,0 +1,16 @@
+package com.example.onemonth.global.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class CacheConfig {
+    // 인증 필터에서 사용하는 사용자 정보 캐시
+    @Value("${cache.principal.max-size:10000}")
+    private long principalMaxSize;
+
+    @Value("${cache.principal.ttl-seconds:300}")
+    private long principalTtlSeconds;
+}
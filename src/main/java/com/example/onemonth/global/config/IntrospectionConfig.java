@@ -0,0 +1,25 @@
+package com.example.onemonth.global.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class IntrospectionConfig {
+    // X-Internal-Key 헤더 값, 비어 있으면 /internal/tokens/introspect 는 모든 요청 거부
+    @Value("${internal.introspection.key:}")
+    private String key;
+
+    // 한 요청에 담을 수 있는 최대 토큰 수
+    @Value("${internal.introspection.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    // 이 개수 미만이면 요청 스레드에서 순서대로 검증
+    @Value("${internal.introspection.parallel-threshold:64}")
+    private int parallelThreshold;
+
+    // 0 이면 CPU 코어 수
+    @Value("${internal.introspection.parallelism:0}")
+    private int parallelism;
+}
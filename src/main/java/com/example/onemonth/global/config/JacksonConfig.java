@@ -0,0 +1,20 @@
+package com.example.onemonth.global.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 앱 전체가 공유하는 ObjectMapper (Spring Boot 자동 설정) 에 모듈 추가
+ * Module 빈은 JacksonAutoConfiguration 이 자동으로 등록
+ */
+@Configuration
+public class JacksonConfig {
+
+    // getter / setter 호출을 리플렉션 대신 LambdaMetafactory 로 생성한 코드로 수행
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -11,9 +11,64 @@ public class JwtConfig {
     @Value("${jwt.key}")
     private String secretKey;
 
+    // jwt.key 의 kid
+    @Value("${jwt.key-id:default}")
+    private String keyId;
+
+    // 서명 알고리즘 (HS256 / ES256 / ES384 / ES512)
+    @Value("${jwt.algorithm:HS256}")
+    private String algorithm;
+
+    // 교체 전 HMAC 키 (검증만) : kid=secret,kid=secret
+    @Value("${jwt.previous-keys:}")
+    private String previousKeys;
+
+    // ECDSA 서명 키 (PKCS#8 / X.509 DER 의 Base64)
+    @Value("${jwt.ec.key-id:ec-1}")
+    private String ecKeyId;
+
+    @Value("${jwt.ec.private-key:}")
+    private String ecPrivateKey;
+
+    @Value("${jwt.ec.public-key:}")
+    private String ecPublicKey;
+
+    // 검증만 하는 EC 공개키 : kid=base64,kid=base64
+    @Value("${jwt.ec.trusted-public-keys:}")
+    private String ecTrustedPublicKeys;
+
     @Value("${jwt.access-expire-time}")
     private long tokenExpiration;
 
     @Value("${jwt.refresh-expire-time}")
     private long refreshTokenExpiration;
+
+    @Value("${jwt.token-cache-size:10000}")
+    private long tokenCacheSize;
+
+    // RefreshTokenStore 스냅샷 파일 경로 (비어 있으면 스냅샷 사용 안 함)
+    @Value("${jwt.refresh-store.snapshot-path:}")
+    private String refreshStoreSnapshotPath;
+
+    // 이미 사용된 RefreshToken 을 재사용 감지용으로 기억하는 기간
+    @Value("${jwt.refresh-store.reuse-window-seconds:604800}")
+    private long refreshReuseWindowSeconds;
+
+    // 사용자별로 동시에 유지하는 RefreshToken family (로그인 세션) 수, 넘으면 가장 오래된 family 폐기
+    @Value("${jwt.refresh-store.max-families-per-user:10}")
+    private int refreshMaxFamiliesPerUser;
+
+    // 토큰 폐기 목록 파일 (memory-mapped, 비어 있으면 메모리에만 보관)
+    @Value("${jwt.revocation.file-path:}")
+    private String revocationFilePath;
+
+    @Value("${jwt.revocation.file-size-bytes:8388608}")
+    private int revocationFileSizeBytes;
+
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private long revocationExpectedEntries;
+
+    // 만료 시각 기준으로 폐기 항목을 묶는 단위
+    @Value("${jwt.revocation.bucket-seconds:3600}")
+    private long revocationBucketSeconds;
 }
@@ -0,0 +1,35 @@
+package com.example.onemonth.global.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class LoginAuditConfig {
+    @Value("${login.audit.enabled:true}")
+    private boolean enabled;
+
+    // 링 버퍼 크기 (2 의 거듭제곱으로 올림), 가득 차면 로그인 경로에서 기다리지 않고 버림
+    @Value("${login.audit.buffer-size:8192}")
+    private int bufferSize;
+
+    // batch-size 만큼 모이거나 flush-interval 이 지나면 DB 에 기록
+    @Value("${login.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${login.audit.flush-interval-millis:1000}")
+    private long flushIntervalMillis;
+
+    // DB 장애 / 적체 시 기록할 파일 (비어 있으면 버림)
+    @Value("${login.audit.spill-path:}")
+    private String spillPath;
+
+    // 버퍼가 이 비율 이상 차 있으면 DB 가 따라오지 못하는 것으로 보고 파일로 기록
+    @Value("${login.audit.spill-watermark:0.75}")
+    private double spillWatermark;
+
+    // DB 기록 실패 후 다시 시도하기까지의 시간 (그동안은 파일로 기록)
+    @Value("${login.audit.retry-backoff-millis:5000}")
+    private long retryBackoffMillis;
+}
@@ -0,0 +1,29 @@
+package com.example.onemonth.global.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+@Getter
+public class PasswordHashConfig {
+    // 0 이면 CPU 코어 수만큼 스레드 생성
+    @Value("${password-hash.pool-size:0}")
+    private int poolSize;
+
+    @Value("${password-hash.queue-capacity:64}")
+    private int queueCapacity;
+
+    // 큐 대기 + 해싱까지 기다리는 최대 시간
+    @Value("${password-hash.timeout-millis:3000}")
+    private long timeoutMillis;
+
+    // 서블릿 / reactive 모드 공통
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.onemonth.global.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class RateLimitConfig {
+    @Value("${login.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    // username 별 : 최대 연속 시도 수 / 분당 충전량
+    @Value("${login.rate-limit.per-username.capacity:5}")
+    private int usernameCapacity;
+
+    @Value("${login.rate-limit.per-username.refill-per-minute:5}")
+    private long usernameRefillPerMinute;
+
+    // 클라이언트 IP 별
+    @Value("${login.rate-limit.per-ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${login.rate-limit.per-ip.refill-per-minute:60}")
+    private long ipRefillPerMinute;
+
+    // 보관할 bucket 수 상한 / 미사용 bucket 제거 시간
+    @Value("${login.rate-limit.max-keys:100000}")
+    private long maxKeys;
+
+    @Value("${login.rate-limit.idle-minutes:10}")
+    private long idleMinutes;
+}
@@ -0,0 +1,78 @@
+package com.example.onemonth.global.config;
+
+import com.example.onemonth.global.common.ErrorResponseWriter;
+import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.global.jwt.ReactiveJwtAuthenticationFilter;
+import com.example.onemonth.global.jwt.TokenRevocationList;
+import com.example.onemonth.global.metrics.AuthMetrics;
+import com.example.onemonth.global.security.ReactiveUserDetailsServiceImpl;
+import com.example.onemonth.global.security.RoutePolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * SecurityConfig 의 WebFlux 버전 (reactive 프로파일)
+ */
+@Configuration
+@EnableWebFluxSecurity
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final ReactiveUserDetailsServiceImpl reactiveUserDetailsService;
+    private final JwtUtil jwtUtil;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthMetrics authMetrics;
+    private final RoutePolicy routePolicy;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        /**
+         * CSRF / 기본 로그인 방식 비활성화
+         */
+        http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable);
+
+        /**
+         * SecurityContext 를 세션에 저장하지 않음
+         */
+        http.securityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        /**
+         * 요청 권한 설정 (경로 목록은 RoutePolicy 에서 관리)
+         */
+        http.authorizeExchange((authorizeExchange) ->
+                authorizeExchange
+                        .matchers(routePolicy.exchangeMatcher(RoutePolicy.Access.PUBLIC)).permitAll()
+                        .matchers(routePolicy.exchangeMatcher(RoutePolicy.Access.ADMIN)).hasAuthority(RoutePolicy.ADMIN_AUTHORITY)
+                        .anyExchange().authenticated()
+        );
+
+        /**
+         * 인증 없이 보호된 경로 접근 시 서블릿 모드 (Http403ForbiddenEntryPoint) 와 같이 403
+         */
+        http.exceptionHandling((exceptionHandling) ->
+                exceptionHandling.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN))
+        );
+
+        /**
+         * JWT 필터 (빈으로 등록하지 않음)
+         */
+        http.addFilterAt(new ReactiveJwtAuthenticationFilter(jwtUtil, reactiveUserDetailsService, errorResponseWriter,
+                tokenRevocationList, authMetrics, routePolicy), SecurityWebFiltersOrder.AUTHENTICATION);
+
+        return http.build();
+    }
+}
@@ -1,37 +1,40 @@
 package com.example.onemonth.global.config;
 
+import com.example.onemonth.global.common.ErrorResponseWriter;
 import com.example.onemonth.global.jwt.JwtAuthenticationFilter;
 import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.global.jwt.TokenRevocationList;
+import com.example.onemonth.global.metrics.AuthMetrics;
+import com.example.onemonth.global.security.RoutePolicy;
 import com.example.onemonth.global.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+// 서블릿 (Spring MVC) 모드 전용, reactive 프로파일은 ReactiveSecurityConfig
 @Configuration
 @EnableWebSecurity
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final UserDetailsServiceImpl userDetailsServiceImpl;
     private final JwtUtil jwtUtil;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthMetrics authMetrics;
+    private final RoutePolicy routePolicy;
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationProcessingFilter() {
-        return new JwtAuthenticationFilter(jwtUtil, userDetailsServiceImpl);
-    }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new JwtAuthenticationFilter(jwtUtil, userDetailsServiceImpl, errorResponseWriter,
+                tokenRevocationList, authMetrics, routePolicy);
     }
 
     @Bean
@@ -50,15 +53,12 @@ public class SecurityConfig {
         );
 
         /**
-         * 요청 권한 설정
+         * 요청 권한 설정 (경로 목록은 RoutePolicy 에서 관리)
          */
         http.authorizeHttpRequests((authorizeHttpRequests) ->
                 authorizeHttpRequests
-                        .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
-                        .requestMatchers(HttpMethod.POST, "/users/signup").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/users/sign").permitAll()
-                        .requestMatchers("/v3/api-docs/**").permitAll() // Swagger API docs 허용
-                        .requestMatchers("/swagger-ui/**").permitAll() // Swagger UI 허용
+                        .requestMatchers(routePolicy.matcher(RoutePolicy.Access.PUBLIC)).permitAll()
+                        .requestMatchers(routePolicy.matcher(RoutePolicy.Access.ADMIN)).hasAuthority(RoutePolicy.ADMIN_AUTHORITY)
                         .anyRequest().authenticated()
         );
 
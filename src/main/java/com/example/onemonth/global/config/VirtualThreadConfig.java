@@ -0,0 +1,19 @@
+package com.example.onemonth.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * virtual 프로파일 설정 확인
+ * Java 17 에서는 spring.threads.virtual.enabled 가 조용히 무시되므로 기동 시점에 실패시킴
+ */
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("virtual 프로파일은 Java 21 이상에서만 사용할 수 있습니다. (-PjavaVersion=21)");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.onemonth.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 방금 쓴 사용자의 조회는 replica 지연과 관계없이 primary 에서 읽도록 함
+ * 인스턴스 로컬 기록이므로 가입 직후 다른 인스턴스로 간 요청은 replica 지연만큼 USER_NOT_FOUND 가 날 수 있음
+ * (라우팅을 쓰지 않으면 아무 영향 없음)
+ */
+@Component
+public class ReadYourWritesTracker {
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWritesTracker(@Value("${datasource.routing.read-your-writes-seconds:5}") long windowSeconds,
+                                 @Value("${datasource.routing.read-your-writes-max-size:100000}") long maxSize) {
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds))
+                .build();
+    }
+
+    public void markWritten(String username) {
+        recentWrites.put(username, Boolean.TRUE);
+    }
+
+    public <T> T read(String username, Supplier<T> query) {
+        if (recentWrites.getIfPresent(username) != null) {
+            return ReplicationRoutingDataSource.onPrimary(query);
+        }
+        return query.get();
+    }
+}
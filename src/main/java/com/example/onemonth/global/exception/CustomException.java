@@ -1,18 +1,29 @@
 package com.example.onemonth.global.exception;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 
 @Getter
-@RequiredArgsConstructor
 public class CustomException extends RuntimeException {
 
     private final HttpStatus statusCode;
     private final String message;
+    private final ErrorCode errorCode; // ErrorCode 로 생성한 경우에만 존재
 
+    public CustomException(HttpStatus statusCode, String message) {
+        this.statusCode = statusCode;
+        this.message = message;
+        this.errorCode = null;
+    }
+
+    /**
+     * ErrorCode 기반 예외는 응답 코드로만 쓰이므로 스택 트레이스를 만들지 않음
+     * (잘못된 토큰이 대량으로 들어올 때 예외 생성 비용 절감)
+     */
     public CustomException(ErrorCode errorCode) {
+        super(errorCode.getMessage(), null, false, false);
         this.statusCode = errorCode.getStatus();
         this.message = errorCode.getMessage();
+        this.errorCode = errorCode;
     }
 }
@@ -21,11 +21,20 @@ public enum ErrorCode {
     FALSE_TOKEN(HttpStatus.BAD_REQUEST, "잘못된 JWT 토큰입니다."),
     HEADER_NOT_FOUND(HttpStatus.BAD_REQUEST, "헤더가 잘못되었거나 누락되었습니다."),
     UNMATCHED_TOKEN(HttpStatus.BAD_REQUEST, "일치하지 않는 토큰입니다."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 Refresh 토큰입니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 Refresh 토큰입니다. 재로그인 해주세요."),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, "폐기된 토큰입니다. 재로그인 해주세요."),
+
+    // 내부 API
+    INVALID_INTERNAL_KEY(HttpStatus.UNAUTHORIZED, "내부 API 키가 올바르지 않습니다."),
+    INTROSPECTION_BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "한 번에 확인할 수 있는 토큰 수를 초과했습니다."),
 
     // USER
     USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "유저를 찾을 수 없습니다."),
     USER_ALREADY_EXIST(HttpStatus.CONFLICT, "이미 같은 이름을 가진 유저가 존재합니다."),
-    PASSWORD_NOT_CORRECT(HttpStatus.BAD_REQUEST, "패스워드가 일치하지 않습니다.");
+    PASSWORD_NOT_CORRECT(HttpStatus.BAD_REQUEST, "패스워드가 일치하지 않습니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String message;
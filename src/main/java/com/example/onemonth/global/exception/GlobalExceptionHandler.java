@@ -1,37 +1,38 @@
 package com.example.onemonth.global.exception;
 
-import com.example.onemonth.global.common.CommonErrorResponse;
+import com.example.onemonth.global.common.ErrorResponseWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
 
 @RestControllerAdvice
+@Profile("!reactive")
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private final ErrorResponseWriter errorResponseWriter;
 
     @ExceptionHandler(CustomException.class)
-    public ResponseEntity<CommonErrorResponse> handleCustomException(final CustomException e) {
-        return ResponseEntity.status(e.getStatusCode()).body(
-                CommonErrorResponse.builder()
-                        .message(e.getMessage())
-                        .error(e.getStatusCode().getReasonPhrase())
-                        .statusCode(e.getStatusCode().value())
-                        .timestamp(LocalDateTime.now())
-                        .build()
-        );
+    public void handleCustomException(final CustomException e, HttpServletResponse response) throws IOException {
+        errorResponseWriter.write(response, e);
+    }
+
+    @ExceptionHandler(RateLimitException.class)
+    public void handleRateLimitException(final RateLimitException e, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        errorResponseWriter.write(response, e);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity handleValidationExceptions(MethodArgumentNotValidException ex) {
-        return ResponseEntity.status(ex.getStatusCode())
-                .body(CommonErrorResponse.builder()
-                        .message(ex.getBindingResult().getFieldError().getDefaultMessage())
-                        .error(HttpStatus.valueOf(ex.getStatusCode().value()).getReasonPhrase())
-                        .statusCode(ex.getStatusCode().value())
-                        .timestamp(LocalDateTime.now())
-                        .build());
+    public void handleValidationExceptions(MethodArgumentNotValidException ex, HttpServletResponse response) throws IOException {
+        errorResponseWriter.write(response,
+                HttpStatus.valueOf(ex.getStatusCode().value()),
+                ex.getBindingResult().getFieldError().getDefaultMessage());
     }
 }
@@ -0,0 +1,17 @@
+package com.example.onemonth.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 제한 초과 (응답에 Retry-After 헤더 포함)
+ */
+@Getter
+public class RateLimitException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.onemonth.global.exception;
+
+import com.example.onemonth.global.common.ErrorResponseWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+/**
+ * GlobalExceptionHandler 의 WebFlux 버전 (reactive 프로파일), 응답 본문은 같은 형태
+ */
+@RestControllerAdvice
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveExceptionHandler {
+    private static final MediaType CONTENT_TYPE = MediaType.parseMediaType(ErrorResponseWriter.CONTENT_TYPE);
+
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @ExceptionHandler(CustomException.class)
+    public ResponseEntity<byte[]> handleCustomException(final CustomException e) {
+        return ResponseEntity.status(e.getStatusCode())
+                .contentType(CONTENT_TYPE)
+                .body(errorResponseWriter.render(e));
+    }
+
+    @ExceptionHandler(RateLimitException.class)
+    public ResponseEntity<byte[]> handleRateLimitException(final RateLimitException e) {
+        return ResponseEntity.status(e.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .contentType(CONTENT_TYPE)
+                .body(errorResponseWriter.render(e));
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<byte[]> handleValidationExceptions(WebExchangeBindException ex) {
+        HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+        return ResponseEntity.status(status)
+                .contentType(CONTENT_TYPE)
+                .body(errorResponseWriter.render(status, ex.getBindingResult().getFieldError().getDefaultMessage()));
+    }
+}
@@ -0,0 +1,434 @@
+package com.example.onemonth.global.jwt;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 고정된 모양의 HS256 토큰 (jti / sub / auth / iat / exp, RefreshToken 은 typ 추가) 전용 발급 / 검증기
+ * - 헤더 segment 는 kid 별로 미리 Base64URL 인코딩
+ * - Mac 은 스레드별로 재사용 (가상 스레드에서는 요청마다 prototype 을 clone)
+ * - payload 는 직접 JSON 작성 / 다섯 개 클레임만 파싱
+ * jjwt 로 발급한 토큰과 서로 호환되며, 처리할 수 없는 모양 (다른 헤더, 추가 클레임, 이스케이프 문자 등) 은
+ * decode 가 null 을 반환하므로 호출하는 쪽에서 jjwt 로 처리
+ */
+public final class Hs256TokenCodec {
+    private static final String JCA_NAME = SignatureAlgorithm.HS256.getJcaName();
+    private static final int MAC_LENGTH = 32;
+    private static final int SIGNATURE_LENGTH = 43; // 32 byte 의 패딩 없는 Base64URL 길이
+
+    private static final byte[] ENCODE = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final int[] DECODE = new int[128];
+
+    private static final byte[] JTI = bytes("jti");
+    private static final byte[] SUB = bytes("sub");
+    private static final byte[] AUTH = bytes("auth");
+    private static final byte[] IAT = bytes("iat");
+    private static final byte[] EXP = bytes("exp");
+    private static final byte[] TYP = bytes(JwtUtil.TOKEN_TYPE);
+
+    // 스레드별 작업 버퍼 : [0, 32) MAC 결과, [32, 75) 서명 Base64URL
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[MAC_LENGTH + SIGNATURE_LENGTH]);
+
+    static {
+        Arrays.fill(DECODE, -1);
+        for (int i = 0; i < ENCODE.length; i++) {
+            DECODE[ENCODE[i]] = i;
+        }
+    }
+
+    private final HmacKey signingKey; // HS256 으로 발급하지 않으면 null
+    private final Map<String, HmacKey> keysByHeader; // 헤더 segment -> 검증 키
+
+    private Hs256TokenCodec(HmacKey signingKey, Map<String, HmacKey> keysByHeader) {
+        this.signingKey = signingKey;
+        this.keysByHeader = Map.copyOf(keysByHeader);
+    }
+
+    /**
+     * KeyRing 의 HMAC 키로 생성
+     * jjwt 가 만드는 헤더 ({"kid":"..","alg":"HS256"}, kid 없는 이전 토큰은 {"alg":"HS256"}) 와 같은 segment 를 사용
+     */
+    public static Hs256TokenCodec from(KeyRing keyRing) {
+        Map<String, HmacKey> keys = new HashMap<>();
+        for (Map.Entry<String, Key> entry : keyRing.getVerificationKeys().entrySet()) {
+            if (entry.getValue() instanceof SecretKey secretKey) {
+                HmacKey key = new HmacKey(header(entry.getKey()), secretKey.getEncoded());
+                keys.put(key.headerSegment, key);
+            }
+        }
+        if (keyRing.getLegacyKey() != null) {
+            HmacKey legacy = new HmacKey(header(null), keyRing.getLegacyKey().getEncoded());
+            keys.putIfAbsent(legacy.headerSegment, legacy);
+        }
+
+        HmacKey signingKey = null;
+        if (keyRing.getAlgorithm() == SignatureAlgorithm.HS256) {
+            signingKey = keys.get(header(keyRing.getSigningKeyId()));
+        }
+        return new Hs256TokenCodec(signingKey, keys);
+    }
+
+    public boolean canSign() {
+        return signingKey != null;
+    }
+
+    // 발급
+
+    public String encode(String tokenId, String username, UserRole role, long issuedAtMillis, long expirationMillis) {
+        return encode(tokenId, username, role, issuedAtMillis, expirationMillis, false);
+    }
+
+    public String encode(String tokenId, String username, UserRole role, long issuedAtMillis, long expirationMillis,
+                         boolean refresh) {
+        // jjwt 와 같이 iat / exp 는 초 단위
+        StringBuilder json = new StringBuilder(128);
+        json.append("{\"jti\":");
+        appendString(json, tokenId);
+        json.append(",\"sub\":");
+        appendString(json, username);
+        json.append(",\"auth\":\"").append(role.name())
+                .append("\",\"iat\":").append(issuedAtMillis / 1000)
+                .append(",\"exp\":").append(expirationMillis / 1000);
+        if (refresh) {
+            json.append(",\"").append(JwtUtil.TOKEN_TYPE).append("\":\"").append(JwtUtil.REFRESH_TOKEN_TYPE).append('"');
+        }
+        json.append('}');
+        byte[] payload = json.toString().getBytes(StandardCharsets.UTF_8);
+
+        byte[] header = signingKey.headerBytes;
+        int payloadOffset = header.length + 1;
+        int signatureOffset = payloadOffset + encodedLength(payload.length) + 1;
+        byte[] token = new byte[signatureOffset + SIGNATURE_LENGTH];
+
+        System.arraycopy(header, 0, token, 0, header.length);
+        token[header.length] = '.';
+        encode(payload, 0, payload.length, token, payloadOffset);
+        token[signatureOffset - 1] = '.';
+
+        byte[] scratch = SCRATCH.get();
+        sign(signingKey, token, signatureOffset - 1, scratch);
+        encode(scratch, 0, MAC_LENGTH, token, signatureOffset);
+        return new String(token, StandardCharsets.ISO_8859_1);
+    }
+
+    // 검증
+
+    /**
+     * 서명 / 만료 확인 후 클레임 반환
+     * @return 이 codec 이 처리하지 않는 모양이면 null (jjwt 로 다시 처리)
+     */
+    public TokenClaims decode(String token, long nowMillis) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+        HmacKey key = keysByHeader.get(token.substring(0, firstDot));
+        if (key == null) {
+            return null;
+        }
+
+        byte[] input = token.getBytes(StandardCharsets.ISO_8859_1);
+        byte[] scratch = SCRATCH.get();
+        sign(key, input, secondDot, scratch);
+        encode(scratch, 0, MAC_LENGTH, scratch, MAC_LENGTH);
+
+        // 길이가 다르거나 한 글자라도 다르면 실패 (비교 시간은 서명 길이에만 의존)
+        int diff = input.length - secondDot - 1 - SIGNATURE_LENGTH;
+        for (int i = 0; i < SIGNATURE_LENGTH && diff == 0; i++) {
+            diff |= scratch[MAC_LENGTH + i] ^ input[secondDot + 1 + i];
+        }
+        if (diff != 0) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+
+        byte[] payload = decode(input, firstDot + 1, secondDot);
+        TokenClaims claims = payload == null ? null : parsePayload(payload);
+        if (claims == null) {
+            return null;
+        }
+        if (nowMillis > claims.getExpiration()) {
+            throw new CustomException(ErrorCode.TOKEN_EXPIRATION);
+        }
+        return claims;
+    }
+
+    private static void sign(HmacKey key, byte[] input, int length, byte[] out) {
+        try {
+            Mac mac = key.mac.get();
+            mac.update(input, 0, length);
+            mac.doFinal(out, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HS256 서명에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * {"jti":"..","sub":"..","auth":"..","iat":n,"exp":n} (+ "typ":"refresh") 만 파싱
+     * 다른 클레임 / 다른 typ 값 / 이스케이프 문자열 / 숫자가 아닌 시간 값이 있으면 null
+     */
+    private static TokenClaims parsePayload(byte[] json) {
+        String tokenId = null;
+        String username = null;
+        String role = null;
+        long issuedAt = -1;
+        long expiration = -1;
+        boolean refresh = false;
+
+        int pos = skipWhitespace(json, 0);
+        if (pos >= json.length || json[pos++] != '{') {
+            return null;
+        }
+        while (true) {
+            pos = skipWhitespace(json, pos);
+            int keyStart = pos + 1;
+            int keyEnd = stringEnd(json, pos);
+            if (keyEnd < 0) {
+                return null;
+            }
+            pos = skipWhitespace(json, keyEnd + 1);
+            if (pos >= json.length || json[pos++] != ':') {
+                return null;
+            }
+            pos = skipWhitespace(json, pos);
+
+            if (matches(json, keyStart, keyEnd, JTI) || matches(json, keyStart, keyEnd, SUB)
+                    || matches(json, keyStart, keyEnd, AUTH)) {
+                int valueEnd = stringEnd(json, pos);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                String value = new String(json, pos + 1, valueEnd - pos - 1, StandardCharsets.UTF_8);
+                if (matches(json, keyStart, keyEnd, JTI)) {
+                    tokenId = value;
+                } else if (matches(json, keyStart, keyEnd, SUB)) {
+                    username = value;
+                } else {
+                    role = value;
+                }
+                pos = valueEnd + 1;
+            } else if (matches(json, keyStart, keyEnd, TYP)) {
+                int valueEnd = stringEnd(json, pos);
+                if (valueEnd < 0 || !JwtUtil.REFRESH_TOKEN_TYPE.equals(
+                        new String(json, pos + 1, valueEnd - pos - 1, StandardCharsets.UTF_8))) {
+                    return null;
+                }
+                refresh = true;
+                pos = valueEnd + 1;
+            } else if (matches(json, keyStart, keyEnd, IAT) || matches(json, keyStart, keyEnd, EXP)) {
+                long value = 0;
+                int start = pos;
+                while (pos < json.length && json[pos] >= '0' && json[pos] <= '9' && pos - start < 18) {
+                    value = value * 10 + (json[pos++] - '0');
+                }
+                if (pos == start) {
+                    return null;
+                }
+                if (matches(json, keyStart, keyEnd, IAT)) {
+                    issuedAt = value * 1000;
+                } else {
+                    expiration = value * 1000;
+                }
+            } else {
+                return null; // 모르는 클레임 (nbf 등) 은 jjwt 가 처리
+            }
+
+            pos = skipWhitespace(json, pos);
+            if (pos >= json.length) {
+                return null;
+            }
+            byte next = json[pos++];
+            if (next == '}') {
+                break;
+            }
+            if (next != ',') {
+                return null;
+            }
+        }
+
+        if (skipWhitespace(json, pos) != json.length || username == null || role == null || expiration < 0) {
+            return null;
+        }
+        return new TokenClaims(tokenId, username, UserRole.valueOf(role), Math.max(issuedAt, 0L), expiration, refresh);
+    }
+
+    // 이스케이프가 없는 문자열의 닫는 따옴표 위치, 아니면 -1
+    private static int stringEnd(byte[] json, int start) {
+        if (start >= json.length || json[start] != '"') {
+            return -1;
+        }
+        for (int i = start + 1; i < json.length; i++) {
+            if (json[i] == '"') {
+                return i;
+            }
+            if (json[i] == '\\' || (json[i] >= 0 && json[i] < 0x20)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int pos) {
+        while (pos < json.length && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean matches(byte[] json, int start, int end, byte[] key) {
+        if (end - start != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (json[start + i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    // Base64URL (패딩 없음)
+
+    private static int encodedLength(int length) {
+        return length / 3 * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    private static void encode(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+        int end = offset + length;
+        int i = offset;
+        int d = dstOffset;
+        for (; i + 2 < end; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[d++] = ENCODE[bits >>> 18];
+            dst[d++] = ENCODE[(bits >>> 12) & 0x3f];
+            dst[d++] = ENCODE[(bits >>> 6) & 0x3f];
+            dst[d++] = ENCODE[bits & 0x3f];
+        }
+        int remaining = end - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xff) << 16;
+            dst[d++] = ENCODE[bits >>> 18];
+            dst[d] = ENCODE[(bits >>> 12) & 0x3f];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+            dst[d++] = ENCODE[bits >>> 18];
+            dst[d++] = ENCODE[(bits >>> 12) & 0x3f];
+            dst[d] = ENCODE[(bits >>> 6) & 0x3f];
+        }
+    }
+
+    // 잘못된 문자가 있으면 null
+    private static byte[] decode(byte[] src, int start, int end) {
+        int length = end - start;
+        if (length % 4 == 1) {
+            return null;
+        }
+        byte[] out = new byte[length / 4 * 3 + Math.max(0, length % 4 - 1)];
+        int bits = 0;
+        int count = 0;
+        int o = 0;
+        for (int i = start; i < end; i++) {
+            int c = src[i];
+            int value = c >= 0 && c < DECODE.length ? DECODE[c] : -1;
+            if (value < 0) {
+                return null;
+            }
+            bits = bits << 6 | value;
+            if (++count == 4) {
+                out[o++] = (byte) (bits >>> 16);
+                out[o++] = (byte) (bits >>> 8);
+                out[o++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 3) {
+            out[o++] = (byte) (bits >>> 10);
+            out[o] = (byte) (bits >>> 2);
+        } else if (count == 2) {
+            out[o] = (byte) (bits >>> 4);
+        }
+        return out;
+    }
+
+    private static String header(String keyId) {
+        StringBuilder json = new StringBuilder("{");
+        if (keyId != null) {
+            json.append("\"kid\":");
+            appendString(json, keyId);
+            json.append(',');
+        }
+        json.append("\"alg\":\"HS256\"}");
+        byte[] raw = json.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = new byte[encodedLength(raw.length)];
+        encode(raw, 0, raw.length, encoded, 0);
+        return new String(encoded, StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 헤더 segment + 스레드별 Mac
+     */
+    private static final class HmacKey {
+        private final String headerSegment;
+        private final byte[] headerBytes;
+        private final ThreadLocal<Mac> mac;
+
+        private HmacKey(String headerSegment, byte[] secret) {
+            this.headerSegment = headerSegment;
+            this.headerBytes = headerSegment.getBytes(StandardCharsets.US_ASCII);
+            Mac prototype = newMac(secret);
+            this.mac = ThreadLocal.withInitial(() -> copyOf(prototype, secret));
+        }
+
+        private static Mac newMac(byte[] secret) {
+            try {
+                Mac mac = Mac.getInstance(JCA_NAME);
+                mac.init(new SecretKeySpec(secret, JCA_NAME));
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HS256 키를 초기화할 수 없습니다.", e);
+            }
+        }
+
+        // 초기화된 Mac 복제가 getInstance + init 보다 저렴 (clone 을 지원하지 않는 provider 면 새로 생성)
+        private static Mac copyOf(Mac prototype, byte[] secret) {
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                return newMac(secret);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.onemonth.global.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWKS 공개키 엔드포인트
+ * 다른 서비스가 이 서버를 호출하지 않고 ES* 토큰을 직접 검증할 수 있도록 공개키 제공 (HMAC 키는 공개하지 않음)
+ * 표준 형식이므로 CommonResponse 로 감싸지 않음
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtUtil jwtUtil;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, String>>>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic())
+                .body(Map.of("keys", jwtUtil.getKeyRing().getPublicJwks()));
+    }
+}
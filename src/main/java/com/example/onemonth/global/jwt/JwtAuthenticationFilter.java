@@ -1,18 +1,19 @@
 package com.example.onemonth.global.jwt;
 
 import com.example.onemonth.domain.user.UserRole;
-import com.example.onemonth.global.common.CommonErrorResponse;
+import com.example.onemonth.global.common.ErrorResponseWriter;
 import com.example.onemonth.global.exception.CustomException;
 import com.example.onemonth.global.exception.ErrorCode;
+import com.example.onemonth.global.metrics.AuthMetrics;
+import com.example.onemonth.global.metrics.AuthStage;
+import com.example.onemonth.global.security.RoutePolicy;
 import com.example.onemonth.global.security.UserDetailsServiceImpl;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -25,85 +26,88 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.Collections;
 
 @Component
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String AUTHORIZATION_HEADER = "Authorization"; // Header Key 값
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthMetrics authMetrics;
+    private final RoutePolicy routePolicy;
+
+    /**
+     * 공개 경로 (로그인 / 가입 / 정적 리소스 / Swagger 등) 는 JWT 처리 없이 통과
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return routePolicy.isPublic(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String requestURI = request.getRequestURI();
-
-        // /users/signup과 /users/sign 경로의 요청은 Authorization 헤더가 없어도 허용
-        if ("/users/signup".equals(requestURI) || "/users/sign".equals(requestURI)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         // GET 요청의 경우 Authorization 헤더가 없으면 필터링 제외
         if ("GET".equalsIgnoreCase(request.getMethod()) && request.getHeader(AUTHORIZATION_HEADER) == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
+        // 단계별 소요 시간 측정 (실패 시 해당 단계에 ErrorCode 로 기록)
+        AuthStage stage = AuthStage.FILTER_HEADER;
+        long start = System.nanoTime();
         try {
             String tokenValue = jwtUtil.extractBearerTokenFromHeader(request, AUTHORIZATION_HEADER);
-            jwtUtil.validateToken(tokenValue);
+            start = authMetrics.success(stage, start);
+
+            stage = AuthStage.FILTER_VERIFY;
+            TokenClaims claims = jwtUtil.parseAccessToken(tokenValue); // 검증 + 추출을 한 번에
+            start = authMetrics.success(stage, start);
+
+            stage = AuthStage.FILTER_REVOCATION;
+            if (tokenRevocationList.isRevoked(claims)) {
+                throw new CustomException(ErrorCode.REVOKED_TOKEN);
+            }
+            start = authMetrics.success(stage, start);
 
-            String userId = jwtUtil.getUsernameFromToken(tokenValue);
-            UserRole role = jwtUtil.getRoleFromToken(tokenValue);
+            stage = AuthStage.FILTER_USER_LOAD;
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getUsername());
+            start = authMetrics.success(stage, start);
 
-            setAuthentication(userId, role);
+            stage = AuthStage.FILTER_CONTEXT;
+            setAuthentication(userDetails, claims.getRole());
+            authMetrics.success(stage, start);
+            authMetrics.succeeded(AuthMetrics.Pipeline.FILTER);
 
         } catch (CustomException e) {
-            handleException(response, e.getMessage(), e.getStatusCode());
+            authMetrics.failure(stage, start, e);
+            errorResponseWriter.write(response, e);
             return;
         } catch (Exception e) {
-            handleException(response, "Authentication Error: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+            authMetrics.failure(stage, start, e);
+            errorResponseWriter.write(response, HttpStatus.INTERNAL_SERVER_ERROR, "Authentication Error: " + e.getMessage());
             return;
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private void setAuthentication(String userId, UserRole role) {
+    private void setAuthentication(UserDetails userDetails, UserRole role) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(userId, role);
+        Authentication authentication = createAuthentication(userDetails, role);
         context.setAuthentication(authentication);
         SecurityContextHolder.setContext(context);
     }
 
-    private Authentication createAuthentication(String userId, UserRole role) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
+    private Authentication createAuthentication(UserDetails userDetails, UserRole role) {
         Collection<? extends GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(role.name()));
         return new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
     }
-
-    private void handleException(HttpServletResponse res, String message, HttpStatus httpStatus) throws IOException {
-        res.setStatus(httpStatus.value());
-        res.setContentType("application/json");
-        res.setCharacterEncoding("UTF-8");
-
-        CommonErrorResponse errorResponse = CommonErrorResponse.builder()
-                .message(message)
-                .error(httpStatus.getReasonPhrase())
-                .statusCode(httpStatus.value())
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule()); // JavaTimeModule 추가
-        res.getWriter().write(mapper.writeValueAsString(errorResponse));
-    }
 }
-
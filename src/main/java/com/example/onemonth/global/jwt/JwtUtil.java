@@ -1,42 +1,53 @@
 package com.example.onemonth.global.jwt;
 
 import com.example.onemonth.domain.user.UserRole;
-import com.example.onemonth.global.common.CommonResponse;
 import com.example.onemonth.global.config.JwtConfig;
 import com.example.onemonth.global.exception.CustomException;
 import com.example.onemonth.global.exception.ErrorCode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import javax.crypto.SecretKey;
-import java.io.IOException;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
     // 필드
-    private final ObjectMapper mapper = new ObjectMapper(); // Json 변환을 위함
     public static final String BEARER = "Bearer ";
 
     public static final String AUTHORIZATION = "auth"; // 사용자 권한 Key
 
-    public final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256; // 암호화 알고리즘
+    // 토큰 용도 클레임 : RefreshToken 에만 typ=refresh (AccessToken 은 클레임 없음)
+    public static final String TOKEN_TYPE = "typ";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    public final SignatureAlgorithm signatureAlgorithm; // 암호화 알고리즘 (jwt.algorithm)
 
     private final long tokenExpiration;
     private final long refreshTokenExpiration;
-    private final SecretKey secretKey;
+    private final KeyRing keyRing; // 서명 / 검증 키 (kid 로 조회)
+    private final JwtParser jwtParser; // 파서는 스레드 안전하므로 한 번만 생성해서 재사용
+    private final Hs256TokenCodec hs256Codec; // HS256 토큰 전용 발급 / 검증 (그 외 형태는 jjwt)
+    private final TokenCache tokenCache; // null 이면 캐시 비활성화
 
     public JwtUtil(JwtConfig jwtConfig) {
         this.tokenExpiration = jwtConfig.getTokenExpiration();
         this.refreshTokenExpiration = jwtConfig.getRefreshTokenExpiration();
-        this.secretKey = Keys.hmacShaKeyFor(jwtConfig.getSecretKey().getBytes());
+        this.keyRing = KeyRing.from(jwtConfig);
+        this.signatureAlgorithm = keyRing.getAlgorithm();
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+        this.hs256Codec = Hs256TokenCodec.from(keyRing);
+        this.tokenCache = jwtConfig.getTokenCacheSize() > 0 ? new TokenCache(jwtConfig.getTokenCacheSize()) : null;
+    }
+
+    public KeyRing getKeyRing() {
+        return keyRing;
+    }
+
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
     }
 
     // 토큰 생성
@@ -45,16 +56,41 @@ public class JwtUtil {
     }
 
     public String createRefreshToken(String userName, UserRole userRole) {
-        return createToken(userName, userRole, refreshTokenExpiration);
+        return createRefreshToken(userName, userRole, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 토큰 ID(jti) 를 지정해서 RefreshToken 생성 (RefreshTokenStore 에 등록하기 위함)
+     */
+    public String createRefreshToken(String userName, UserRole userRole, String tokenId) {
+        return createToken(userName, userRole, refreshTokenExpiration, tokenId, true);
     }
 
     public String createToken(String userName, UserRole userRole, long tokenExpiration) {
-        return Jwts.builder()
+        return createToken(userName, userRole, tokenExpiration, UUID.randomUUID().toString());
+    }
+
+    public String createToken(String userName, UserRole userRole, long tokenExpiration, String tokenId) {
+        return createToken(userName, userRole, tokenExpiration, tokenId, false);
+    }
+
+    private String createToken(String userName, UserRole userRole, long tokenExpiration, String tokenId, boolean refresh) {
+        if (hs256Codec.canSign()) {
+            long now = System.currentTimeMillis();
+            return hs256Codec.encode(tokenId, userName, userRole, now, now + tokenExpiration, refresh);
+        }
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getSigningKeyId()) // 서명 키 ID (kid)
+                .setId(tokenId) // 토큰 ID (jti)
                 .setSubject(userName) // 토큰 발행 주체
-                .claim(AUTHORIZATION, userRole.name())
+                .claim(AUTHORIZATION, userRole.name());
+        if (refresh) {
+            builder.claim(TOKEN_TYPE, REFRESH_TOKEN_TYPE);
+        }
+        return builder
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + tokenExpiration)) // 토큰 만료 시간
-                .signWith(secretKey, signatureAlgorithm)
+                .signWith(keyRing.getSigningKey(), signatureAlgorithm)
                 .compact();
     }
 
@@ -62,42 +98,77 @@ public class JwtUtil {
      * RefreshToken 을 사용하여 AccessToken 생성
      */
     public String createAccessTokenFromRefresh(String refreshToken,  UserRole userRole) {
-        if (validateToken(refreshToken)) {
-            String username = getUsernameFromToken(refreshToken);
-            return createAccessToken(username, userRole);
+        String username = parseRefreshToken(refreshToken).getUsername();
+        return createAccessToken(username, userRole);
+    }
+
+
+    // 토큰 확인
+    /**
+     * 토큰 검증 + 클레임 추출
+     * 서명 검증과 JSON 파싱은 토큰당 한 번만 수행하고, 결과는 캐시에 보관
+     */
+    public TokenClaims parseToken(String token) {
+        if (tokenCache == null) {
+            return verify(token);
         }
-        throw new IllegalArgumentException("Refresh토큰이 유효하지 않음");
+
+        String digest = TokenCache.digest(token);
+        TokenClaims cached = tokenCache.get(digest);
+        if (cached != null) {
+            if (cached.isExpired(System.currentTimeMillis())) {
+                throw new CustomException(ErrorCode.TOKEN_EXPIRATION);
+            }
+            return cached;
+        }
+
+        TokenClaims claims = verify(token);
+        tokenCache.put(digest, claims);
+        return claims;
     }
 
+    private TokenClaims verify(String token) {
+        TokenClaims claims = hs256Codec.decode(token, System.currentTimeMillis());
+        return claims != null ? claims : TokenClaims.from(extractAllClaims(token));
+    }
 
-    // 토큰 발급
     /**
-     * 요구 사항에 따라 로그인 시
-     * AccessToken + RefreshToken 을 Body로 제공
+     * Bearer 로 받은 AccessToken 검증 (RefreshToken 이면 INVALID_TOKEN)
+     * RefreshToken 은 유효 기간이 길고 rotation / 로그아웃 후에도 서명은 유효하므로 API 인증에 쓰지 못하게 함
      */
-    public void sendAccessAndRefreshToken(HttpServletResponse response, String accessToken, String refreshToken) throws IOException {
-        response.setStatus(HttpServletResponse.SC_OK);
-        response.setContentType("application/json;charset=UTF-8");
-
-        Map<String, String> tokens = new HashMap<>();
-        tokens.put("access", accessToken);
-        if (refreshToken != null) {
-            tokens.put("refresh", refreshToken);
+    public TokenClaims parseAccessToken(String token) {
+        TokenClaims claims = parseToken(token);
+        if (claims.isRefresh()) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
-        CommonResponse responseForm = new CommonResponse<>("Access Token, Refresh Token 바디에 설정 성공",200,tokens);
+        return claims;
+    }
 
-        String responseBody = mapper.writeValueAsString(responseForm);
-        response.getWriter().write(responseBody);
+    /**
+     * /users/refresh, /users/logout 으로 받은 RefreshToken 검증 (AccessToken 이면 INVALID_REFRESH_TOKEN)
+     */
+    public TokenClaims parseRefreshToken(String token) {
+        TokenClaims claims = parseToken(token);
+        if (!claims.isRefresh()) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        return claims;
     }
 
-    // 토큰 확인
     /**
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
+        parseToken(token);
+        return true;
+    }
+
+    /**
+     * 사용자 정보 추출
+     */
+    private Claims extractAllClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         } catch (UnsupportedJwtException e) {
@@ -109,31 +180,18 @@ public class JwtUtil {
         }
     }
 
-    /**
-     * 사용자 정보 추출
-     */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
     /**
      * 사용자 권한 추출
      */
     public UserRole getRoleFromToken(String token) {
-        Claims claims = extractAllClaims(token);
-        return UserRole.valueOf(claims.get(AUTHORIZATION).toString());
+        return parseToken(token).getRole();
     }
 
     /**
      * 사용자 이름 추출
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.getSubject();  // JWT의 subject 필드에서 userName 추출
+        return parseToken(token).getUsername();  // JWT의 subject 필드에서 userName 추출
     }
 
     // 토큰 다루기
@@ -141,7 +199,13 @@ public class JwtUtil {
      * header에서 토큰 추출
      */
     public String extractBearerTokenFromHeader(HttpServletRequest request, String header) {
-        String bearerToken = request.getHeader(header);
+        return extractBearerToken(request.getHeader(header));
+    }
+
+    /**
+     * Authorization 헤더 값에서 토큰 추출 (WebFlux 필터 공용)
+     */
+    public String extractBearerToken(String bearerToken) {
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER)) {
             return substringToken(bearerToken);
         }
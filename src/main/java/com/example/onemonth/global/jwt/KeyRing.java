@@ -0,0 +1,175 @@
+package com.example.onemonth.global.jwt;
+
+import com.example.onemonth.global.config.JwtConfig;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.math.BigInteger;
+import java.security.*;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.*;
+
+/**
+ * 서명 / 검증 키 모음
+ * - 발급 : 현재 서명 키 하나 + 헤더에 kid 기록
+ * - 검증 : 헤더의 kid 로 HashMap 조회 (키를 하나씩 시도하지 않음)
+ * - kid 가 없는 토큰 (키 링 도입 이전 발급분) 은 jwt.key 로 검증
+ * - EC 공개키는 JWKS 형식으로 공개
+ */
+@Getter
+public class KeyRing extends SigningKeyResolverAdapter {
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private final String signingKeyId;
+    private final Key signingKey;
+    private final SignatureAlgorithm algorithm;
+    private final Map<String, Key> verificationKeys;
+    private final List<Map<String, String>> publicJwks;
+    private final SecretKey legacyKey;
+
+    private KeyRing(String signingKeyId, Key signingKey, SignatureAlgorithm algorithm,
+                    Map<String, Key> verificationKeys, List<Map<String, String>> publicJwks, SecretKey legacyKey) {
+        this.signingKeyId = signingKeyId;
+        this.signingKey = signingKey;
+        this.algorithm = algorithm;
+        this.verificationKeys = Map.copyOf(verificationKeys);
+        this.publicJwks = List.copyOf(publicJwks);
+        this.legacyKey = legacyKey;
+    }
+
+    public static KeyRing from(JwtConfig jwtConfig) {
+        Map<String, Key> keys = new HashMap<>();
+        List<Map<String, String>> jwks = new ArrayList<>();
+
+        // HMAC 키 (jwt.key + 교체 전 키)
+        String hmacKeyId = StringUtils.hasText(jwtConfig.getKeyId()) ? jwtConfig.getKeyId() : DEFAULT_KEY_ID;
+        SecretKey hmacKey = Keys.hmacShaKeyFor(jwtConfig.getSecretKey().getBytes());
+        keys.put(hmacKeyId, hmacKey);
+        parsePairs(jwtConfig.getPreviousKeys())
+                .forEach((kid, secret) -> keys.put(kid, Keys.hmacShaKeyFor(secret.getBytes())));
+
+        // 검증만 하는 EC 공개키
+        parsePairs(jwtConfig.getEcTrustedPublicKeys()).forEach((kid, encoded) -> {
+            PublicKey publicKey = decodePublicKey(encoded);
+            keys.put(kid, publicKey);
+            jwks.add(toJwk(kid, (ECPublicKey) publicKey));
+        });
+
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(
+                StringUtils.hasText(jwtConfig.getAlgorithm()) ? jwtConfig.getAlgorithm() : "HS256");
+
+        if (algorithm.isHmac()) {
+            return new KeyRing(hmacKeyId, hmacKey, algorithm, keys, jwks, hmacKey);
+        }
+        if (!algorithm.isEllipticCurve()) {
+            throw new IllegalArgumentException("지원하지 않는 JWT 알고리즘입니다: " + algorithm);
+        }
+
+        String ecKeyId = StringUtils.hasText(jwtConfig.getEcKeyId()) ? jwtConfig.getEcKeyId() : "ec-1";
+        KeyPair keyPair = loadKeyPair(jwtConfig, algorithm);
+        keys.put(ecKeyId, keyPair.getPublic());
+        jwks.add(toJwk(ecKeyId, (ECPublicKey) keyPair.getPublic()));
+
+        return new KeyRing(ecKeyId, keyPair.getPrivate(), algorithm, keys, jwks, hmacKey);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String keyId = header.getKeyId();
+        Key key = keyId == null ? legacyKey : verificationKeys.get(keyId);
+        if (key == null) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        return key;
+    }
+
+    private static KeyPair loadKeyPair(JwtConfig jwtConfig, SignatureAlgorithm algorithm) {
+        if (StringUtils.hasText(jwtConfig.getEcPrivateKey()) && StringUtils.hasText(jwtConfig.getEcPublicKey())) {
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance("EC");
+                PrivateKey privateKey = keyFactory.generatePrivate(
+                        new PKCS8EncodedKeySpec(Base64.getDecoder().decode(jwtConfig.getEcPrivateKey())));
+                return new KeyPair(decodePublicKey(jwtConfig.getEcPublicKey()), privateKey);
+            } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+                throw new IllegalArgumentException("jwt.ec.private-key 를 읽을 수 없습니다.", e);
+            }
+        }
+        // 임시 키를 만들면 인스턴스마다 서명 키가 달라지고 재시작 시 토큰이 모두 무효가 되므로 기동 실패
+        throw new IllegalArgumentException("jwt.algorithm 이 " + algorithm
+                + " 이면 jwt.ec.private-key 와 jwt.ec.public-key 를 설정해야 합니다.");
+    }
+
+    private static PublicKey decodePublicKey(String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new IllegalArgumentException("EC 공개키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * RFC 7518 EC 공개키 JWK
+     */
+    private static Map<String, String> toJwk(String keyId, ECPublicKey publicKey) {
+        int fieldSize = publicKey.getParams().getCurve().getField().getFieldSize();
+        int length = (fieldSize + 7) / 8;
+        String curve = switch (fieldSize) {
+            case 256 -> "P-256";
+            case 384 -> "P-384";
+            case 521 -> "P-521";
+            default -> throw new IllegalArgumentException("지원하지 않는 EC 커브입니다: " + fieldSize);
+        };
+        String alg = switch (fieldSize) {
+            case 256 -> "ES256";
+            case 384 -> "ES384";
+            default -> "ES512";
+        };
+
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", alg);
+        jwk.put("crv", curve);
+        jwk.put("x", base64Url(publicKey.getW().getAffineX(), length));
+        jwk.put("y", base64Url(publicKey.getW().getAffineY(), length));
+        return jwk;
+    }
+
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] padded = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, padded, length - copy, copy);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(padded);
+    }
+
+    /**
+     * "kid=value,kid=value" 형식 파싱 (value 의 Base64 패딩 '=' 는 유지)
+     */
+    private static Map<String, String> parsePairs(String pairs) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (!StringUtils.hasText(pairs)) {
+            return result;
+        }
+        for (String pair : pairs.split(",")) {
+            int separator = pair.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("kid=value 형식이 아닙니다: " + pair);
+            }
+            result.put(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+        }
+        return result;
+    }
+}
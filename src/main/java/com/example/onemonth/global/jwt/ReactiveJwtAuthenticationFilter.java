@@ -0,0 +1,120 @@
+package com.example.onemonth.global.jwt;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.common.ErrorResponseWriter;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.example.onemonth.global.metrics.AuthMetrics;
+import com.example.onemonth.global.metrics.AuthStage;
+import com.example.onemonth.global.security.RoutePolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+/**
+ * JwtAuthenticationFilter 의 WebFlux 버전 (reactive 프로파일)
+ * 헤더 / 서명 검증 / 폐기 확인은 메모리 작업이므로 이벤트 루프에서 바로 처리하고, 사용자 조회만 비동기
+ * WebFilter 빈으로 등록하면 보안 체인 밖에서 한 번 더 실행되므로 ReactiveSecurityConfig 에서 직접 생성
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+    private final JwtUtil jwtUtil;
+    private final ReactiveUserDetailsService userDetailsService;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthMetrics authMetrics;
+    private final RoutePolicy routePolicy;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        // 공개 경로는 JWT 처리 없이 통과
+        if (routePolicy.resolve(request) == RoutePolicy.Access.PUBLIC) {
+            return chain.filter(exchange);
+        }
+
+        // GET 요청의 경우 Authorization 헤더가 없으면 필터링 제외
+        String authorization = request.getHeaders().getFirst(JwtAuthenticationFilter.AUTHORIZATION_HEADER);
+        if (HttpMethod.GET.equals(request.getMethod()) && authorization == null) {
+            return chain.filter(exchange);
+        }
+
+        // 단계별 소요 시간 측정 (실패 시 해당 단계에 ErrorCode 로 기록)
+        AuthStage stage = AuthStage.FILTER_HEADER;
+        long start = System.nanoTime();
+        TokenClaims claims;
+        try {
+            String tokenValue = jwtUtil.extractBearerToken(authorization);
+            start = authMetrics.success(stage, start);
+
+            stage = AuthStage.FILTER_VERIFY;
+            claims = jwtUtil.parseAccessToken(tokenValue);
+            start = authMetrics.success(stage, start);
+
+            stage = AuthStage.FILTER_REVOCATION;
+            if (tokenRevocationList.isRevoked(claims)) {
+                throw new CustomException(ErrorCode.REVOKED_TOKEN);
+            }
+            start = authMetrics.success(stage, start);
+        } catch (Exception e) {
+            authMetrics.failure(stage, start, e);
+            return writeError(exchange, e);
+        }
+
+        long userLoadStart = start;
+        return userDetailsService.findByUsername(claims.getUsername())
+                .switchIfEmpty(Mono.error(() -> new UsernameNotFoundException("User not found")))
+                .map(userDetails -> {
+                    long contextStart = authMetrics.success(AuthStage.FILTER_USER_LOAD, userLoadStart);
+                    Authentication authentication = createAuthentication(userDetails, claims.getRole());
+                    authMetrics.success(AuthStage.FILTER_CONTEXT, contextStart);
+                    authMetrics.succeeded(AuthMetrics.Pipeline.FILTER);
+                    return authentication;
+                })
+                .onErrorResume(Exception.class, e -> {
+                    authMetrics.failure(AuthStage.FILTER_USER_LOAD, userLoadStart, e);
+                    return writeError(exchange, e).then(Mono.<Authentication>empty());
+                })
+                .flatMap(authentication -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication)));
+    }
+
+    private Authentication createAuthentication(UserDetails userDetails, UserRole role) {
+        return new UsernamePasswordAuthenticationToken(userDetails, null,
+                Collections.singletonList(new SimpleGrantedAuthority(role.name())));
+    }
+
+    private Mono<Void> writeError(ServerWebExchange exchange, Exception e) {
+        HttpStatus status;
+        byte[] body;
+        if (e instanceof CustomException customException) {
+            status = customException.getStatusCode();
+            body = errorResponseWriter.render(customException);
+        } else {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+            body = errorResponseWriter.render(status, "Authentication Error: " + e.getMessage());
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().set(HttpHeaders.CONTENT_TYPE, ErrorResponseWriter.CONTENT_TYPE);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
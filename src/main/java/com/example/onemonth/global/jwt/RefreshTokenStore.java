@@ -0,0 +1,217 @@
+package com.example.onemonth.global.jwt;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.config.JwtConfig;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 발급한 RefreshToken 저장소 (jti 기준)
+ * - 재발급 시 기존 토큰은 제거하고 새 토큰을 등록 (rotation)
+ * - 이미 사용된 토큰이 다시 들어오면 탈취로 보고 같은 family 의 토큰 전체를 폐기
+ * - 사용자별 family 수를 max-families-per-user 로 제한하고, 넘으면 가장 오래된 family 폐기
+ *   (만료 시간이 길어도 로그인을 반복해서 저장소를 키우지 못하도록)
+ * - 만료된 항목은 주기적으로 정리, 필요하면 종료 시 로컬 파일로 스냅샷
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Map<String, Entry> active = new ConcurrentHashMap<>();     // jti -> 토큰 정보
+    private final Map<String, Used> used = new ConcurrentHashMap<>();        // 사용된 jti -> family (재사용 감지)
+    private final Map<String, String> families = new ConcurrentHashMap<>();  // family -> 현재 jti
+    private final Map<String, LinkedHashSet<String>> userFamilies = new ConcurrentHashMap<>(); // username -> family (등록 순서, compute 안에서만 변경)
+
+    private final Path snapshotPath;
+    private final long reuseWindowMillis;
+    private final int maxFamiliesPerUser;
+
+    public RefreshTokenStore(JwtConfig jwtConfig) {
+        this.snapshotPath = StringUtils.hasText(jwtConfig.getRefreshStoreSnapshotPath())
+                ? Paths.get(jwtConfig.getRefreshStoreSnapshotPath()) : null;
+        this.reuseWindowMillis = jwtConfig.getRefreshReuseWindowSeconds() * 1000;
+        this.maxFamiliesPerUser = Math.max(1, jwtConfig.getRefreshMaxFamiliesPerUser());
+    }
+
+    public record Entry(String username, UserRole role, String familyId, long expiresAt) {
+    }
+
+    private record Used(String familyId, long forgetAt) {
+    }
+
+    /**
+     * 새 RefreshToken 등록 (familyId 가 null 이면 로그인으로 시작된 새 family)
+     */
+    public void register(String tokenId, String username, UserRole role, String familyId, long expiresAt) {
+        String family = familyId == null ? tokenId : familyId;
+        active.put(tokenId, new Entry(username, role, family, expiresAt));
+        families.put(family, tokenId);
+
+        List<String> evicted = new ArrayList<>();
+        userFamilies.compute(username, (key, owned) -> {
+            LinkedHashSet<String> result = owned == null ? new LinkedHashSet<>() : owned;
+            result.add(family); // rotation 이면 이미 있으므로 순서 유지
+            Iterator<String> oldest = result.iterator();
+            while (result.size() > maxFamiliesPerUser) {
+                evicted.add(oldest.next());
+                oldest.remove();
+            }
+            return result;
+        });
+        evicted.forEach(this::revokeFamily);
+    }
+
+    /**
+     * RefreshToken 사용 처리
+     * 한 토큰은 한 번만 사용 가능 (ConcurrentHashMap.remove 로 원자적으로 꺼냄)
+     */
+    public Entry consume(String tokenId) {
+        if (tokenId == null) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        Entry entry = active.remove(tokenId);
+        if (entry == null) {
+            Used reused = used.get(tokenId);
+            if (reused != null) {
+                revokeFamily(reused.familyId());
+                throw new CustomException(ErrorCode.REFRESH_TOKEN_REUSED);
+            }
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        long now = System.currentTimeMillis();
+        used.put(tokenId, new Used(entry.familyId(), now + reuseWindowMillis));
+        if (entry.expiresAt() <= now) {
+            throw new CustomException(ErrorCode.TOKEN_EXPIRATION);
+        }
+        return entry;
+    }
+
+    /**
+     * tokenId 가 속한 family 전체 폐기 (로그아웃)
+     * 이미 rotation 으로 사용된 토큰이어도 재사용 감지 기간 안이면 family 를 찾아 현재 토큰까지 폐기
+     */
+    public void revokeFamilyOf(String tokenId) {
+        if (tokenId == null) {
+            return;
+        }
+        Entry entry = active.get(tokenId);
+        Used usedEntry = entry == null ? used.get(tokenId) : null;
+        String familyId = entry != null ? entry.familyId() : usedEntry != null ? usedEntry.familyId() : null;
+        if (familyId != null) {
+            revokeFamily(familyId);
+        }
+    }
+
+    private void revokeFamily(String familyId) {
+        String current = families.remove(familyId);
+        if (current != null) {
+            Entry entry = active.remove(current);
+            if (entry != null) {
+                untrackFamily(entry.username(), familyId);
+            }
+        }
+    }
+
+    private void untrackFamily(String username, String familyId) {
+        userFamilies.computeIfPresent(username, (key, owned) -> {
+            owned.remove(familyId);
+            return owned.isEmpty() ? null : owned;
+        });
+    }
+
+    /**
+     * 만료된 토큰 / 재사용 감지 기간이 지난 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-store.cleanup-interval-millis:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        active.entrySet().removeIf(e -> {
+            if (e.getValue().expiresAt() > now) {
+                return false;
+            }
+            if (families.remove(e.getValue().familyId(), e.getKey())) {
+                untrackFamily(e.getValue().username(), e.getValue().familyId());
+            }
+            return true;
+        });
+        used.values().removeIf(u -> u.forgetAt() <= now);
+    }
+
+    public int size() {
+        return active.size();
+    }
+
+    @PostConstruct
+    public void loadSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("unknown refresh token snapshot version, ignored: {}", snapshotPath);
+                return;
+            }
+            int count = in.readInt();
+            UserRole[] roles = UserRole.values();
+            for (int i = 0; i < count; i++) {
+                String tokenId = in.readUTF();
+                String username = in.readUTF();
+                UserRole role = roles[in.readByte()];
+                String familyId = in.readUTF();
+                long expiresAt = in.readLong();
+                if (expiresAt > now) {
+                    register(tokenId, username, role, familyId, expiresAt);
+                }
+            }
+            log.info("loaded {} refresh tokens from {}", active.size(), snapshotPath);
+        } catch (IOException e) {
+            log.warn("failed to load refresh token snapshot: {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, "refresh-tokens", ".tmp");
+            Map<String, Entry> snapshot = Map.copyOf(active);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, Entry> e : snapshot.entrySet()) {
+                    Entry entry = e.getValue();
+                    out.writeUTF(e.getKey());
+                    out.writeUTF(entry.username());
+                    out.writeByte(entry.role().ordinal());
+                    out.writeUTF(entry.familyId());
+                    out.writeLong(entry.expiresAt());
+                }
+            }
+            Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("failed to save refresh token snapshot: {}", snapshotPath, e);
+        }
+    }
+}
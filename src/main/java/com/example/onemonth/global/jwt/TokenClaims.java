@@ -0,0 +1,46 @@
+package com.example.onemonth.global.jwt;
+
+import com.example.onemonth.domain.user.UserRole;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 검증이 끝난 토큰에서 꺼낸 클레임
+ * 필터가 필요로 하는 값만 담은 불변 객체
+ */
+@Getter
+@RequiredArgsConstructor
+public final class TokenClaims {
+    private final String tokenId;  // jti
+    private final String username;
+    private final UserRole role;
+    private final long issuedAt;   // epoch millis
+    private final long expiration; // epoch millis
+    private final boolean refresh; // typ=refresh (RefreshToken 은 Bearer 로 사용 불가)
+
+    public TokenClaims(String tokenId, String username, UserRole role, long issuedAt, long expiration) {
+        this(tokenId, username, role, issuedAt, expiration, false);
+    }
+
+    public static TokenClaims from(Claims claims) {
+        return new TokenClaims(
+                claims.getId(),
+                claims.getSubject(),
+                UserRole.valueOf(claims.get(JwtUtil.AUTHORIZATION).toString()),
+                toMillis(claims.getIssuedAt()),
+                toMillis(claims.getExpiration()),
+                JwtUtil.REFRESH_TOKEN_TYPE.equals(claims.get(JwtUtil.TOKEN_TYPE))
+        );
+    }
+
+    public boolean isExpired(long now) {
+        return expiration <= now;
+    }
+
+    private static long toMillis(Date date) {
+        return date == null ? 0L : date.getTime();
+    }
+}
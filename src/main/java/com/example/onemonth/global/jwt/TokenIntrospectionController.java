@@ -0,0 +1,51 @@
+package com.example.onemonth.global.jwt;
+
+import com.example.onemonth.domain.user.dto.TokenIntrospectionDto;
+import com.example.onemonth.domain.user.dto.TokenIntrospectionRequestDto;
+import com.example.onemonth.global.common.CommonResponse;
+import com.example.onemonth.global.config.IntrospectionConfig;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 내부 게이트웨이 / 서비스용 토큰 일괄 검증
+ * JWT 필터 대상이 아니며 (RoutePolicy 에서 PUBLIC) X-Internal-Key 헤더로 호출자 확인
+ * 서블릿 모드 전용 (병렬 검증이 끝날 때까지 요청 스레드에서 기다림)
+ */
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TokenIntrospectionController {
+    public static final String INTERNAL_KEY_HEADER = "X-Internal-Key";
+
+    private final TokenIntrospector tokenIntrospector;
+    private final IntrospectionConfig introspectionConfig;
+
+    @PostMapping("/internal/tokens/introspect")
+    public ResponseEntity<CommonResponse> introspect(@RequestHeader(value = INTERNAL_KEY_HEADER, required = false) String internalKey,
+                                                     @RequestBody TokenIntrospectionRequestDto requestDto) {
+        tokenIntrospector.checkInternalKey(internalKey);
+
+        List<String> tokens = requestDto.getTokens() == null ? List.of() : requestDto.getTokens();
+        if (tokens.size() > introspectionConfig.getMaxBatchSize()) {
+            throw new CustomException(ErrorCode.INTROSPECTION_BATCH_TOO_LARGE);
+        }
+
+        long now = System.currentTimeMillis();
+        List<TokenIntrospectionDto> responseDto = tokenIntrospector.introspect(tokens).stream()
+                .map(result -> TokenIntrospectionDto.from(result, now))
+                .toList();
+        CommonResponse response = new CommonResponse<>("토큰 확인", 200, responseDto);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.onemonth.global.jwt;
+
+import com.example.onemonth.global.config.IntrospectionConfig;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 토큰 일괄 검증 (내부 introspection API)
+ * - JwtUtil.parseAccessToken 을 그대로 사용하므로 파서 / 키 / 검증 캐시를 JWT 필터와 공유 (RefreshToken 은 INVALID_TOKEN)
+ * - 토큰 수가 parallel-threshold 이상이면 전용 ForkJoinPool 에서 구간을 나눠 병렬 검증
+ * - 토큰별 실패는 예외 대신 ErrorCode 로 결과에 담음 (사용자 존재 여부는 확인하지 않음)
+ */
+@Component
+public class TokenIntrospector {
+
+    /**
+     * @param claims 유효한 토큰이면 클레임, 아니면 null
+     * @param error  유효하지 않은 이유, 유효하면 null
+     */
+    public record Result(TokenClaims claims, ErrorCode error) {
+        public boolean active() {
+            return error == null;
+        }
+    }
+
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
+    private final byte[] internalKey; // 비어 있으면 모든 요청 거부
+    private final int parallelThreshold;
+    private final ForkJoinPool pool;
+
+    public TokenIntrospector(JwtUtil jwtUtil, TokenRevocationList tokenRevocationList, IntrospectionConfig config) {
+        this.jwtUtil = jwtUtil;
+        this.tokenRevocationList = tokenRevocationList;
+        this.internalKey = config.getKey() == null ? new byte[0] : config.getKey().getBytes(StandardCharsets.UTF_8);
+        this.parallelThreshold = Math.max(1, config.getParallelThreshold());
+
+        int parallelism = config.getParallelism() > 0 ? config.getParallelism() : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("token-introspect-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * 내부 API 키 확인 (길이 외의 정보가 응답 시간으로 새지 않도록 상수 시간 비교)
+     */
+    public void checkInternalKey(String key) {
+        if (internalKey.length == 0 || key == null
+                || !MessageDigest.isEqual(internalKey, key.getBytes(StandardCharsets.UTF_8))) {
+            throw new CustomException(ErrorCode.INVALID_INTERNAL_KEY);
+        }
+    }
+
+    /**
+     * @return 요청과 같은 순서의 검증 결과
+     */
+    public List<Result> introspect(List<String> tokens) {
+        Result[] results = new Result[tokens.size()];
+        if (tokens.size() < parallelThreshold) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = inspect(tokens.get(i));
+            }
+        } else {
+            // 워커 수의 4 배 정도로 나눠 빨리 끝난 워커가 남은 구간을 가져가도록 함
+            int leafSize = Math.max(16, results.length / (pool.getParallelism() * 4));
+            pool.invoke(new InspectTask(tokens, results, 0, results.length, leafSize));
+        }
+        return Arrays.asList(results);
+    }
+
+    private Result inspect(String token) {
+        if (!StringUtils.hasText(token)) {
+            return new Result(null, ErrorCode.FALSE_TOKEN);
+        }
+        try {
+            // 게이트웨이가 Authorization 헤더 값을 그대로 넘겨도 처리
+            TokenClaims claims = jwtUtil.parseAccessToken(token.startsWith(JwtUtil.BEARER) ? jwtUtil.substringToken(token) : token);
+            if (tokenRevocationList.isRevoked(claims)) {
+                return new Result(null, ErrorCode.REVOKED_TOKEN);
+            }
+            return new Result(claims, null);
+        } catch (CustomException e) {
+            return new Result(null, e.getErrorCode() != null ? e.getErrorCode() : ErrorCode.INVALID_TOKEN);
+        } catch (RuntimeException e) {
+            return new Result(null, ErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private final class InspectTask extends RecursiveAction {
+        private final List<String> tokens;
+        private final Result[] results;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        InspectTask(List<String> tokens, Result[] results, int from, int to, int leafSize) {
+            this.tokens = tokens;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    results[i] = inspect(tokens.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new InspectTask(tokens, results, from, mid, leafSize),
+                    new InspectTask(tokens, results, mid, to, leafSize));
+        }
+    }
+}
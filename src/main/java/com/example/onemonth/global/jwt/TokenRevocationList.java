@@ -0,0 +1,330 @@
+package com.example.onemonth.global.jwt;
+
+import com.example.onemonth.global.config.JwtConfig;
+import com.example.onemonth.global.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 폐기 목록
+ * - 토큰 단위 : jti
+ * - 사용자 단위 : username + 기준 시각 (그 이전에 발급된 토큰 전체)
+ *
+ * 조회는 Bloom filter -> 정확한 Map 순서이며, 폐기되지 않은 토큰은 Bloom filter 에서 대부분 끝나고 객체를 할당하지 않음
+ * 항목은 토큰 만료 시각 기준 버킷으로 묶어 두고, 버킷 전체가 만료되면 제거 후 Bloom filter 재생성
+ * jwt.revocation.file-path 가 있으면 memory-mapped 파일에 append 해서 재시작 후에도 유지
+ * - compaction 은 임시 파일에 새로 쓴 뒤 원자적으로 교체 (도중에 종료돼도 기존 파일은 그대로)
+ * - 기동 시 헤더 / 레코드 범위를 확인하고, 손상된 지점부터는 버림 (기동은 실패시키지 않음)
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+    private static final int MAGIC = 0x52564b31; // "RVK1"
+    private static final int HEADER_SIZE = 8;    // magic(4) + write position(4)
+    private static final int RECORD_HEADER_SIZE = 19; // type(1) + expiresAt(8) + revokedBefore(8) + key 길이(2)
+    private static final byte TYPE_TOKEN = 1;
+    private static final byte TYPE_USER = 2;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();         // jti -> 토큰 만료 시각
+    private final Map<String, UserRevocation> revokedUsers = new ConcurrentHashMap<>(); // username -> 기준 시각
+    private final TreeMap<Long, List<BucketEntry>> buckets = new TreeMap<>();           // 만료 버킷 -> 항목 (this 로 동기화)
+
+    private volatile BloomFilter tokenFilter;
+    private volatile BloomFilter userFilter;
+
+    private final long expectedEntries;
+    private final long bucketMillis;
+    private final long maxTokenLifetime;
+    private final Path filePath;
+    private final Path compactPath; // compaction 임시 파일
+    private final int fileSize;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer; // this 로 동기화
+
+    private record UserRevocation(long revokedBefore, long expiresAt) {
+    }
+
+    private record BucketEntry(byte type, String key) {
+    }
+
+    public TokenRevocationList(JwtConfig jwtConfig) {
+        this.expectedEntries = Math.max(1024L, jwtConfig.getRevocationExpectedEntries());
+        this.bucketMillis = Math.max(1L, jwtConfig.getRevocationBucketSeconds()) * 1000;
+        this.maxTokenLifetime = Math.max(jwtConfig.getTokenExpiration(), jwtConfig.getRefreshTokenExpiration());
+        this.filePath = StringUtils.hasText(jwtConfig.getRevocationFilePath())
+                ? Paths.get(jwtConfig.getRevocationFilePath()) : null;
+        this.compactPath = filePath != null ? filePath.resolveSibling(filePath.getFileName() + ".compact") : null;
+        this.fileSize = jwtConfig.getRevocationFileSizeBytes();
+        this.tokenFilter = new BloomFilter(expectedEntries, 0.001);
+        this.userFilter = new BloomFilter(expectedEntries, 0.001);
+    }
+
+    /**
+     * 요청마다 호출되는 폐기 여부 확인
+     */
+    public boolean isRevoked(TokenClaims claims) {
+        String tokenId = claims.getTokenId();
+        if (tokenId != null && tokenFilter.mightContain(tokenId) && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        if (userFilter.mightContain(claims.getUsername())) {
+            UserRevocation revocation = revokedUsers.get(claims.getUsername());
+            // iat 는 초 단위이므로 같은 초에 발급된 토큰도 폐기 대상으로 봄
+            return revocation != null && claims.getIssuedAt() <= revocation.revokedBefore();
+        }
+        return false;
+    }
+
+    /**
+     * 토큰 하나 폐기 (로그아웃 등)
+     */
+    public synchronized void revokeToken(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokens.put(tokenId, expiresAt);
+        tokenFilter.put(tokenId);
+        addToBucket(expiresAt, new BucketEntry(TYPE_TOKEN, tokenId));
+        append(TYPE_TOKEN, tokenId, expiresAt, 0L);
+    }
+
+    /**
+     * 사용자의 revokedBefore 이전 발급 토큰 전체 폐기
+     */
+    public synchronized void revokeUser(String username, long revokedBefore) {
+        long expiresAt = saturatedAdd(revokedBefore, maxTokenLifetime);
+        UserRevocation previous = revokedUsers.get(username);
+        if (previous != null && previous.revokedBefore() >= revokedBefore) {
+            return;
+        }
+        revokedUsers.put(username, new UserRevocation(revokedBefore, expiresAt));
+        userFilter.put(username);
+        addToBucket(expiresAt, new BucketEntry(TYPE_USER, username));
+        append(TYPE_USER, username, expiresAt, revokedBefore);
+    }
+
+    /**
+     * 전체가 만료된 버킷 제거 후 Bloom filter / 파일 재작성
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-millis:60000}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        SortedMap<Long, List<BucketEntry>> expired = buckets.headMap(now / bucketMillis);
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        for (List<BucketEntry> entries : expired.values()) {
+            for (BucketEntry entry : entries) {
+                if (entry.type() == TYPE_TOKEN) {
+                    revokedTokens.remove(entry.key());
+                } else {
+                    // 이후에 다시 폐기된 경우 (만료 시각이 더 늦음) 는 유지
+                    revokedUsers.computeIfPresent(entry.key(), (k, v) -> v.expiresAt() <= now ? null : v);
+                }
+            }
+        }
+        expired.clear();
+
+        rebuildFilters();
+        compact();
+    }
+
+    private void addToBucket(long expiresAt, BucketEntry entry) {
+        buckets.computeIfAbsent(expiresAt / bucketMillis, k -> new ArrayList<>()).add(entry);
+    }
+
+    private void rebuildFilters() {
+        BloomFilter tokens = new BloomFilter(Math.max(expectedEntries, revokedTokens.size() * 2L), 0.001);
+        revokedTokens.keySet().forEach(tokens::put);
+        BloomFilter users = new BloomFilter(Math.max(expectedEntries, revokedUsers.size() * 2L), 0.001);
+        revokedUsers.keySet().forEach(users::put);
+        tokenFilter = tokens;
+        userFilter = users;
+    }
+
+    // 파일 영속화
+    /**
+     * 레코드 : type(1) + expiresAt(8) + revokedBefore(8) + key 길이(2) + key(UTF-8)
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (filePath == null) {
+            return;
+        }
+        Path parent = filePath.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Files.deleteIfExists(compactPath); // compaction 도중 종료된 경우 (기존 파일은 그대로)
+        map();
+
+        if (buffer.getInt(0) != MAGIC) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, HEADER_SIZE);
+            return;
+        }
+
+        // 헤더 / 레코드를 믿지 않고 범위 확인 (손상 / 잘린 파일, 더 큰 file-size 로 기록된 파일)
+        int end = buffer.getInt(4);
+        if (end < HEADER_SIZE || end > fileSize) {
+            log.warn("revocation file end pointer {} is outside [{}, {}], reading until the first invalid record: {}",
+                    end, HEADER_SIZE, fileSize, filePath);
+            end = fileSize;
+        }
+
+        long now = System.currentTimeMillis();
+        int position = HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= end) {
+            byte type = buffer.get(position);
+            long expiresAt = buffer.getLong(position + 1);
+            long revokedBefore = buffer.getLong(position + 9);
+            int length = buffer.getShort(position + 17) & 0xffff;
+            if ((type != TYPE_TOKEN && type != TYPE_USER) || position + RECORD_HEADER_SIZE + length > end) {
+                break;
+            }
+            byte[] key = new byte[length];
+            buffer.get(position + RECORD_HEADER_SIZE, key);
+            position += RECORD_HEADER_SIZE + length;
+
+            if (expiresAt <= now) {
+                continue;
+            }
+            String value = new String(key, StandardCharsets.UTF_8);
+            if (type == TYPE_TOKEN) {
+                revokedTokens.put(value, expiresAt);
+                tokenFilter.put(value);
+                addToBucket(expiresAt, new BucketEntry(TYPE_TOKEN, value));
+            } else {
+                revokedUsers.put(value, new UserRevocation(revokedBefore, expiresAt));
+                userFilter.put(value);
+                addToBucket(expiresAt, new BucketEntry(TYPE_USER, value));
+            }
+        }
+        if (position != buffer.getInt(4)) {
+            // 마지막으로 읽은 레코드 뒤부터 다시 기록
+            log.warn("revocation file is corrupt after offset {}, discarding the rest: {}", position, filePath);
+            buffer.putInt(4, position);
+            buffer.force();
+        }
+        log.info("loaded {} revoked tokens, {} revoked users from {}", revokedTokens.size(), revokedUsers.size(), filePath);
+    }
+
+    private void map() throws IOException {
+        channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+    }
+
+    private void append(byte type, String key, long expiresAt, long revokedBefore) {
+        if (buffer == null) {
+            return;
+        }
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        if (!hasRoom(bytes.length)) {
+            compact();
+            if (buffer == null || !hasRoom(bytes.length)) {
+                log.warn("revocation file is full, entry kept in memory only: {}", filePath);
+                return;
+            }
+        }
+        int position = buffer.getInt(4);
+        writeRecord(buffer, position, type, bytes, expiresAt, revokedBefore);
+        buffer.putInt(4, position + RECORD_HEADER_SIZE + bytes.length);
+        buffer.force();
+    }
+
+    /**
+     * 살아 있는 항목만 임시 파일에 기록한 뒤 원래 파일과 교체
+     * 사용자 폐기를 먼저 기록하고, 공간이 모자라 기록하지 못한 항목은 메모리에만 남김 (재시작 시 사라지므로 경고)
+     */
+    private void compact() {
+        if (buffer == null) {
+            return;
+        }
+        int dropped = 0;
+        try {
+            try (FileChannel compactChannel = FileChannel.open(compactPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer target = compactChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+                int position = HEADER_SIZE;
+                for (Map.Entry<String, UserRevocation> e : revokedUsers.entrySet()) {
+                    byte[] bytes = e.getKey().getBytes(StandardCharsets.UTF_8);
+                    if (position + RECORD_HEADER_SIZE + bytes.length > fileSize) {
+                        dropped++;
+                        continue;
+                    }
+                    position = writeRecord(target, position, TYPE_USER, bytes, e.getValue().expiresAt(), e.getValue().revokedBefore());
+                }
+                for (Map.Entry<String, Long> e : revokedTokens.entrySet()) {
+                    byte[] bytes = e.getKey().getBytes(StandardCharsets.UTF_8);
+                    if (position + RECORD_HEADER_SIZE + bytes.length > fileSize) {
+                        dropped++;
+                        continue;
+                    }
+                    position = writeRecord(target, position, TYPE_TOKEN, bytes, e.getValue(), 0L);
+                }
+                target.putInt(0, MAGIC);
+                target.putInt(4, position);
+                target.force();
+            }
+            Files.move(compactPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("revocation file compaction failed, keeping the previous file: {}", filePath, e);
+            return;
+        }
+
+        try {
+            channel.close();
+            map();
+        } catch (IOException e) {
+            log.warn("failed to reopen revocation file after compaction, entries kept in memory only: {}", filePath, e);
+            channel = null;
+            buffer = null;
+        }
+        if (dropped > 0) {
+            log.warn("revocation file is full, {} entries kept in memory only and will not survive a restart: {}",
+                    dropped, filePath);
+        }
+    }
+
+    private boolean hasRoom(int keyLength) {
+        return buffer.getInt(4) + RECORD_HEADER_SIZE + keyLength <= fileSize;
+    }
+
+    private static int writeRecord(MappedByteBuffer target, int position, byte type, byte[] key, long expiresAt, long revokedBefore) {
+        target.put(position, type);
+        target.putLong(position + 1, expiresAt);
+        target.putLong(position + 9, revokedBefore);
+        target.putShort(position + 17, (short) key.length);
+        target.put(position + RECORD_HEADER_SIZE, key);
+        return position + RECORD_HEADER_SIZE + key.length;
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            buffer.force();
+            channel.close();
+        }
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long result = a + b;
+        return ((a ^ result) & (b ^ result)) < 0 ? Long.MAX_VALUE : result;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.onemonth.global.metrics;
+
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 파이프라인 단계별 타이머 / 결과 카운터
+ * - auth.stage{pipeline, stage, outcome} : 단계별 소요 시간 (히스토그램)
+ * - auth.result{pipeline, outcome}       : 파이프라인 최종 결과
+ * outcome 은 SUCCESS / ErrorCode 이름 / ERROR (ErrorCode 가 아닌 예외)
+ *
+ * 태그 조합은 실제로 발생한 것만 등록하고 배열에 캐시 (요청마다 태그 객체를 만들지 않음)
+ */
+@Component
+public class AuthMetrics {
+    private static final int SUCCESS = 0;
+    private static final int ERROR = ErrorCode.values().length + 1;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer[][] stageTimers = new Timer[AuthStage.values().length][ERROR + 1];
+    private final Counter[][] resultCounters = new Counter[Pipeline.values().length][ERROR + 1];
+
+    public enum Pipeline {
+        FILTER, SIGNIN, REFRESH
+    }
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 단계 성공 기록 후 다음 단계 시작 시각 반환
+     */
+    public long success(AuthStage stage, long startNanos) {
+        long now = System.nanoTime();
+        stageTimer(stage, SUCCESS).record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void failure(AuthStage stage, long startNanos, Exception e) {
+        failure(pipelineOf(stage), stage, startNanos, e);
+    }
+
+    /**
+     * 여러 파이프라인이 공유하는 단계 (토큰 발급) 실패는 호출한 파이프라인의 결과로 기록
+     */
+    public void failure(Pipeline pipeline, AuthStage stage, long startNanos, Exception e) {
+        int outcome = outcome(e);
+        stageTimer(stage, outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        resultCounter(pipeline, outcome).increment();
+    }
+
+    public void succeeded(Pipeline pipeline) {
+        resultCounter(pipeline, SUCCESS).increment();
+    }
+
+    private Timer stageTimer(AuthStage stage, int outcome) {
+        Timer timer = stageTimers[stage.ordinal()][outcome];
+        if (timer == null) {
+            // 동시에 등록돼도 MeterRegistry 가 같은 Timer 를 반환
+            timer = Timer.builder("auth.stage")
+                    .tag("pipeline", stage.getPipeline())
+                    .tag("stage", stage.getStage())
+                    .tag("outcome", outcomeName(outcome))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(500))
+                    .maximumExpectedValue(Duration.ofSeconds(2))
+                    .register(meterRegistry);
+            stageTimers[stage.ordinal()][outcome] = timer;
+        }
+        return timer;
+    }
+
+    private Counter resultCounter(Pipeline pipeline, int outcome) {
+        Counter counter = resultCounters[pipeline.ordinal()][outcome];
+        if (counter == null) {
+            counter = Counter.builder("auth.result")
+                    .tag("pipeline", pipeline.name().toLowerCase())
+                    .tag("outcome", outcomeName(outcome))
+                    .register(meterRegistry);
+            resultCounters[pipeline.ordinal()][outcome] = counter;
+        }
+        return counter;
+    }
+
+    private static Pipeline pipelineOf(AuthStage stage) {
+        return switch (stage.getPipeline()) {
+            case "filter" -> Pipeline.FILTER;
+            case "refresh" -> Pipeline.REFRESH;
+            default -> Pipeline.SIGNIN;
+        };
+    }
+
+    private static int outcome(Exception e) {
+        if (e instanceof CustomException customException && customException.getErrorCode() != null) {
+            return customException.getErrorCode().ordinal() + 1;
+        }
+        return ERROR;
+    }
+
+    private static String outcomeName(int outcome) {
+        if (outcome == SUCCESS) {
+            return "SUCCESS";
+        }
+        if (outcome == ERROR) {
+            return "ERROR";
+        }
+        return ErrorCode.values()[outcome - 1].name();
+    }
+}
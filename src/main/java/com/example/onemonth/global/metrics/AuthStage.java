@@ -0,0 +1,34 @@
+package com.example.onemonth.global.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인증 파이프라인 단계 (auth.stage 메트릭의 pipeline / stage 태그)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AuthStage {
+    // JwtAuthenticationFilter
+    FILTER_HEADER("filter", "header"),
+    FILTER_VERIFY("filter", "verify"),          // 서명 검증 + 클레임 추출 (캐시 조회 포함)
+    FILTER_REVOCATION("filter", "revocation"),
+    FILTER_USER_LOAD("filter", "user_load"),    // loadUserByUsername
+    FILTER_CONTEXT("filter", "security_context"),
+
+    // UserService.signUser
+    SIGNIN_RATE_LIMIT("signin", "rate_limit"),
+    SIGNIN_USER_LOOKUP("signin", "user_lookup"),
+    SIGNIN_PASSWORD("signin", "password_match"),
+
+    // UserService.refresh
+    REFRESH_VERIFY("refresh", "verify"),        // 서명 검증 + typ=refresh 확인
+    REFRESH_CONSUME("refresh", "consume"),      // 저장소에서 사용 처리 (재사용 감지) + 폐기 목록 확인
+
+    // 토큰 발급 (로그인 / 재발급 공통, 결과는 호출한 파이프라인으로 집계)
+    ISSUE_ACCESS_TOKEN("issue", "access_token"),
+    ISSUE_REFRESH_TOKEN("issue", "refresh_token");
+
+    private final String pipeline;
+    private final String stage;
+}
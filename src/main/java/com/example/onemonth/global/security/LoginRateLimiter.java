@@ -0,0 +1,55 @@
+package com.example.onemonth.global.security;
+
+import com.example.onemonth.global.config.RateLimitConfig;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.example.onemonth.global.exception.RateLimitException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한 (username 별 + 클라이언트 IP 별 token bucket)
+ * BCrypt / DB 조회 전에 호출
+ * bucket 은 크기 제한 + 일정 시간 미사용 시 제거되는 Caffeine 캐시에 보관
+ */
+@Component
+public class LoginRateLimiter {
+    private final RateLimitConfig config;
+    private final Cache<String, TokenBucket> usernameBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+
+    public LoginRateLimiter(RateLimitConfig config) {
+        this.config = config;
+        this.usernameBuckets = newBucketCache(config);
+        this.ipBuckets = newBucketCache(config);
+    }
+
+    public void check(String username, String clientIp) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (clientIp != null) {
+            acquire(ipBuckets.get(clientIp, key -> new TokenBucket(config.getIpCapacity(), config.getIpRefillPerMinute(), now)), now);
+        }
+        if (username != null) {
+            acquire(usernameBuckets.get(username, key -> new TokenBucket(config.getUsernameCapacity(), config.getUsernameRefillPerMinute(), now)), now);
+        }
+    }
+
+    private static void acquire(TokenBucket bucket, long now) {
+        long waitMillis = bucket.tryAcquire(now);
+        if (waitMillis > 0) {
+            throw new RateLimitException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, (waitMillis + 999) / 1000);
+        }
+    }
+
+    private static Cache<String, TokenBucket> newBucketCache(RateLimitConfig config) {
+        return Caffeine.newBuilder()
+                .maximumSize(config.getMaxKeys())
+                .expireAfterAccess(Duration.ofMinutes(config.getIdleMinutes()))
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.onemonth.global.security;
+
+import com.example.onemonth.global.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * username -> UserDetails 캐시
+ * JWT 필터가 요청마다 DB 를 조회하지 않도록 UserDetailsServiceImpl 앞단에서 사용
+ * hit / miss / eviction 통계는 /actuator/metrics 의 cache.* 로 노출
+ */
+@Component
+public class PrincipalCache {
+    public static final String CACHE_NAME = "principalCache";
+
+    private final Cache<String, UserDetailsImpl> cache;
+
+    public PrincipalCache(CacheConfig cacheConfig, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getPrincipalMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(cacheConfig.getPrincipalTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public UserDetailsImpl get(String username, Function<String, UserDetailsImpl> loader) {
+        return cache.get(username, loader);
+    }
+
+    /**
+     * 비동기 로딩용 (WebFlux) : 조회 후 없으면 호출자가 로딩해서 put
+     */
+    public UserDetailsImpl getIfPresent(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    public void put(String username, UserDetailsImpl principal) {
+        cache.put(username, principal);
+    }
+
+    /**
+     * 사용자 정보가 변경되면 캐시에서 제거
+     */
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.onemonth.global.security;
+
+import com.example.onemonth.domain.user.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티가 변경(setPassword 등) / 삭제되면 PrincipalCache 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCacheEvictListener {
+    private final PrincipalCache principalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        principalCache.invalidate(user.getUsername());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.onemonth.global.security;
+
+import com.example.onemonth.domain.user.UserAuthView;
+import com.example.onemonth.domain.user.reactive.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * UserDetailsServiceImpl 의 R2DBC 버전 (reactive 프로파일)
+ * 같은 PrincipalCache 를 먼저 확인하고, 없을 때만 비동기로 조회해서 채움
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveUserDetailsServiceImpl implements ReactiveUserDetailsService {
+    private final ReactiveUserRepository userRepository;
+    private final PrincipalCache principalCache;
+
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        UserDetailsImpl cached = principalCache.getIfPresent(username);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        return userRepository.findByUsername(username)
+                .map(user -> new UserDetailsImpl(new UserAuthView(user.id(), user.username(), user.role())))
+                .doOnNext(principal -> principalCache.put(username, principal))
+                .cast(UserDetails.class);
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.onemonth.global.security;
+
+import com.example.onemonth.domain.user.UserRole;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.security.StaticResourceLocation;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.*;
+
+/**
+ * 경로별 접근 정책 (SecurityConfig 의 인가 규칙과 JwtAuthenticationFilter 의 필터 제외 판단이 함께 사용)
+ * reactive 프로파일의 ReactiveSecurityConfig / ReactiveJwtAuthenticationFilter 도 같은 규칙 사용
+ * 기동 시 ROUTES 를 아래 구조로 컴파일
+ * - 고정 경로 : HashMap 조회
+ * - "/prefix/**" : 긴 prefix 부터 startsWith 비교
+ * - 그 외 패턴 : PathPattern (정적 리소스 일부만 해당)
+ * 같은 요청에 여러 규칙이 맞으면 고정 경로 > prefix > 패턴 순, 같은 종류끼리는 먼저 선언한 규칙 우선
+ * 어느 규칙에도 맞지 않으면 AUTHENTICATED
+ * 경로는 디스패처와 같이 디코딩한 값으로 판단 (/%61dmin/** 처럼 인코딩해서 ADMIN 규칙을 피하지 못하도록)
+ */
+@Component
+public class RoutePolicy {
+
+    public enum Access {
+        PUBLIC,        // JWT 처리 없이 허용
+        AUTHENTICATED, // 로그인 필요
+        ADMIN          // ADMIN 권한 필요
+    }
+
+    public static final String ADMIN_AUTHORITY = UserRole.ADMIN.name();
+
+    private static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE"};
+
+    // 새 경로는 여기에만 추가
+    private static final List<Route> ROUTES = List.of(
+            new Route(HttpMethod.POST, "/users/signup", Access.PUBLIC),
+            new Route(HttpMethod.POST, "/users/sign", Access.PUBLIC),
+            new Route(HttpMethod.POST, "/users/refresh", Access.PUBLIC),
+            new Route(HttpMethod.GET, "/users/available", Access.PUBLIC),
+            new Route(null, "/v3/api-docs/**", Access.PUBLIC), // Swagger API docs
+            new Route(null, "/swagger-ui/**", Access.PUBLIC), // Swagger UI
+            new Route(HttpMethod.GET, "/.well-known/jwks.json", Access.PUBLIC), // 공개키
+            new Route(HttpMethod.GET, "/actuator/health", Access.PUBLIC), // 모니터링
+            new Route(null, "/actuator/**", Access.ADMIN), // 메트릭 (ErrorCode 별 인증 실패, 큐 / 커넥션 풀 상태) 은 외부에 노출하지 않음
+            new Route(HttpMethod.POST, "/internal/tokens/introspect", Access.PUBLIC), // JWT 대신 X-Internal-Key 로 확인
+            new Route(null, "/admin/**", Access.ADMIN)
+    );
+
+    private record Route(HttpMethod method, String pattern, Access access) {
+    }
+
+    private record PrefixRule(String prefix, Access[] byMethod) {
+    }
+
+    private record PatternRule(PathPattern pattern, Access[] byMethod) {
+    }
+
+    private final Map<String, Access[]> exactRules = new HashMap<>();
+    private final List<PrefixRule> prefixRules = new ArrayList<>();
+    private final List<PatternRule> patternRules = new ArrayList<>();
+
+    public RoutePolicy() {
+        List<Route> routes = new ArrayList<>(ROUTES);
+        // 정적 리소스 (/css/**, /js/**, /images/**, /webjars/**, /favicon.* 등)
+        Arrays.stream(StaticResourceLocation.values())
+                .flatMap(StaticResourceLocation::getPatterns)
+                .forEach(pattern -> routes.add(new Route(null, pattern, Access.PUBLIC)));
+
+        Map<String, Access[]> prefixes = new LinkedHashMap<>();
+        Map<String, Access[]> patterns = new LinkedHashMap<>();
+        for (Route route : routes) {
+            String pattern = route.pattern();
+            Access[] byMethod;
+            if (pattern.endsWith("/**") && !hasWildcard(pattern.substring(0, pattern.length() - 3))) {
+                byMethod = prefixes.computeIfAbsent(pattern.substring(0, pattern.length() - 3), key -> new Access[METHODS.length]);
+            } else if (hasWildcard(pattern)) {
+                byMethod = patterns.computeIfAbsent(pattern, key -> new Access[METHODS.length]);
+            } else {
+                byMethod = exactRules.computeIfAbsent(pattern, key -> new Access[METHODS.length]);
+            }
+            for (int i = 0; i < METHODS.length; i++) {
+                if (byMethod[i] == null && (route.method() == null || route.method().name().equals(METHODS[i]))) {
+                    byMethod[i] = route.access();
+                }
+            }
+        }
+
+        prefixes.forEach((prefix, byMethod) -> prefixRules.add(new PrefixRule(prefix, byMethod)));
+        prefixRules.sort(Comparator.comparingInt((PrefixRule rule) -> rule.prefix().length()).reversed());
+        PathPatternParser parser = new PathPatternParser();
+        patterns.forEach((pattern, byMethod) -> patternRules.add(new PatternRule(parser.parse(pattern), byMethod)));
+    }
+
+    public Access resolve(HttpServletRequest request) {
+        // Spring MVC 와 같은 방식으로 context path 제외 / 디코딩 / ';' 이후 제거
+        return resolve(request.getMethod(), UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+    }
+
+    public Access resolve(ServerHttpRequest request) {
+        return resolve(request.getMethod().name(), decodedPath(request.getPath().pathWithinApplication()));
+    }
+
+    public Access resolve(String method, String path) {
+        int index = methodIndex(method);
+        if (index < 0) {
+            return Access.AUTHENTICATED;
+        }
+
+        Access[] byMethod = exactRules.get(path);
+        if (byMethod != null && byMethod[index] != null) {
+            return byMethod[index];
+        }
+        for (PrefixRule rule : prefixRules) {
+            String prefix = rule.prefix();
+            if (rule.byMethod()[index] != null && path.startsWith(prefix)
+                    && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return rule.byMethod()[index];
+            }
+        }
+        if (!patternRules.isEmpty()) {
+            PathContainer container = PathContainer.parsePath(path);
+            for (PatternRule rule : patternRules) {
+                if (rule.byMethod()[index] != null && rule.pattern().matches(container)) {
+                    return rule.byMethod()[index];
+                }
+            }
+        }
+        return Access.AUTHENTICATED;
+    }
+
+    public boolean isPublic(HttpServletRequest request) {
+        return resolve(request) == Access.PUBLIC;
+    }
+
+    /**
+     * Spring Security 인가 규칙용 matcher
+     */
+    public RequestMatcher matcher(Access access) {
+        return request -> resolve(request) == access;
+    }
+
+    /**
+     * Spring Security (WebFlux) 인가 규칙용 matcher
+     */
+    public ServerWebExchangeMatcher exchangeMatcher(Access access) {
+        return exchange -> resolve(exchange.getRequest()) == access
+                ? ServerWebExchangeMatcher.MatchResult.match()
+                : ServerWebExchangeMatcher.MatchResult.notMatch();
+    }
+
+    /**
+     * WebFlux 라우팅이 비교하는 값 (세그먼트별 디코딩, matrix 변수 제외) 으로 경로 재구성
+     */
+    private static String decodedPath(PathContainer path) {
+        StringBuilder builder = new StringBuilder(path.value().length());
+        for (PathContainer.Element element : path.elements()) {
+            builder.append(element instanceof PathContainer.PathSegment segment ? segment.valueToMatch() : element.value());
+        }
+        return builder.toString();
+    }
+
+    private static int methodIndex(String method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean hasWildcard(String pattern) {
+        return pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0 || pattern.indexOf('{') >= 0;
+    }
+}
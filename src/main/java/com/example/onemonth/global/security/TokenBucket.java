@@ -0,0 +1,76 @@
+package com.example.onemonth.global.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 token bucket
+ * 마지막 충전 시각(ms) 과 남은 토큰(1/1000 단위) 을 long 하나에 담아 CAS 로 갱신
+ * - 상위 44bit : 마지막 충전 시각 (epoch millis)
+ * - 하위 20bit : 남은 토큰 * 1000 (최대 용량 1000)
+ */
+public class TokenBucket {
+    public static final int MAX_CAPACITY = 1000;
+
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long ONE_TOKEN = 1000;
+
+    private final long capacity;        // 1/1000 토큰 단위
+    private final long refillPerMinute; // 분당 충전 토큰 수
+    private final long refillStepMillis; // 충전량이 정수로 나누어떨어지는 최소 시간 (60 의 약수)
+    private final AtomicLong state;
+
+    public TokenBucket(int capacity, long refillPerMinute, long nowMillis) {
+        if (capacity < 1 || capacity > MAX_CAPACITY || refillPerMinute < 1) {
+            throw new IllegalArgumentException("capacity 는 1 ~ " + MAX_CAPACITY + ", refillPerMinute 는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity * ONE_TOKEN;
+        this.refillPerMinute = refillPerMinute;
+        this.refillStepMillis = 60 / gcd(60, refillPerMinute);
+        this.state = new AtomicLong(pack(nowMillis, this.capacity));
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 0 이면 성공, 아니면 다음 토큰까지 남은 시간(ms)
+     */
+    public long tryAcquire(long nowMillis) {
+        while (true) {
+            long current = state.get();
+            long last = current >>> TOKEN_BITS;
+            long tokens = current & TOKEN_MASK;
+
+            // 1ms 당 refillPerMinute / 60 (1/1000 토큰 단위)
+            // 자주 호출돼도 소수점 이하가 버려지지 않도록 나누어떨어지는 시간만큼만 충전하고 나머지는 다음으로 넘김
+            long elapsed = Math.max(0L, nowMillis - last) / refillStepMillis * refillStepMillis;
+            long refill = elapsed * refillPerMinute / 60;
+            if (refill > 0) {
+                tokens += refill;
+                if (tokens >= capacity) {
+                    tokens = capacity;
+                    last = nowMillis;
+                } else {
+                    last += elapsed;
+                }
+            }
+
+            if (tokens < ONE_TOKEN) {
+                if (refill > 0) {
+                    state.compareAndSet(current, pack(last, tokens));
+                }
+                return Math.max(1L, ((ONE_TOKEN - tokens) * 60 + refillPerMinute - 1) / refillPerMinute);
+            }
+            if (state.compareAndSet(current, pack(last, tokens - ONE_TOKEN))) {
+                return 0L;
+            }
+        }
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static long pack(long millis, long tokens) {
+        return (millis << TOKEN_BITS) | tokens;
+    }
+}
@@ -1,39 +1,53 @@
 package com.example.onemonth.global.security;
 
-import com.example.onemonth.domain.user.User;
+import com.example.onemonth.domain.user.UserAuthView;
 import com.example.onemonth.domain.user.UserRole;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 
+/**
+ * JWT 인증 후 SecurityContext 에 들어가는 principal
+ * 패스워드 해시는 들고 있지 않음 (로그인 검증은 UserService.signUser 에서 직접 수행)
+ */
 public class UserDetailsImpl implements UserDetails {
 
-    private final User user;
+    private final Long id;
+    private final String username;
+    private final UserRole role;
+    private final List<GrantedAuthority> authorities;
 
-    public UserDetailsImpl(User user) {
-        this.user = user;
+    public UserDetailsImpl(UserAuthView view) {
+        this.id = view.id();
+        this.username = view.username();
+        this.role = view.role();
+        this.authorities = List.of(new SimpleGrantedAuthority(role.getAuthority()));
     }
 
-    public User getUser() {
-        return user;
+    public Long getId() {
+        return id;
     }
+
+    public UserRole getRole() {
+        return role;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        UserRole role = user.getRole();
-        return Collections.singleton(new SimpleGrantedAuthority(role.getAuthority()));
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     @Override
@@ -1,7 +1,8 @@
 package com.example.onemonth.global.security;
 
-import com.example.onemonth.domain.user.User;
+import com.example.onemonth.domain.user.UserAuthView;
 import com.example.onemonth.domain.user.UserRepository;
+import com.example.onemonth.global.datasource.ReadYourWritesTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,12 +13,19 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        // 캐시에 없을 때만 DB 조회
+        return principalCache.get(username, this::loadFromRepository);
+    }
+
+    private UserDetailsImpl loadFromRepository(String username) {
+        UserAuthView view = readYourWritesTracker.read(username, () -> userRepository.findAuthViewByUsername(username))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        return new UserDetailsImpl(user);
+        return new UserDetailsImpl(view);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package com.example.onemonth.global.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 레코드 단위 읽기
+ * - 큰따옴표로 감싼 필드 안의 쉼표 / 줄바꿈 / "" (따옴표 하나) 지원
+ * - 감싸지 않은 필드는 앞뒤 공백 제거, 감싼 필드는 그대로
+ * - 따옴표가 닫히지 않음 / 닫는 따옴표 뒤에 구분자가 아닌 문자 / 감싸지 않은 필드 안의 따옴표는 형식 오류
+ *   (형식 오류인 레코드는 해당 줄의 나머지를 버리고 다음 줄부터 계속 읽음)
+ */
+public class CsvReader {
+
+    /**
+     * @param line      레코드가 시작된 줄 번호 (1 부터)
+     * @param malformed true 면 fields 는 비어 있음
+     */
+    public record Record(long line, List<String> fields, boolean malformed) {
+    }
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    public CsvReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return 다음 레코드, 입력이 끝나면 null
+     */
+    public Record next() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        long start = ++lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false; // 현재 필드가 따옴표로 시작
+        boolean closed = false; // 감싼 필드의 닫는 따옴표를 지남
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (quoted && !closed) {
+                    // 감싼 필드 안의 줄바꿈
+                    line = reader.readLine();
+                    if (line == null) {
+                        return malformed(start);
+                    }
+                    lineNumber++;
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+                fields.add(quoted ? field.toString() : field.toString().trim());
+                return new Record(start, fields, false);
+            }
+
+            char c = line.charAt(i++);
+            if (quoted && !closed) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    closed = true;
+                }
+            } else if (c == ',') {
+                fields.add(quoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                quoted = false;
+                closed = false;
+            } else if (closed) {
+                return malformed(start);
+            } else if (c == '"') {
+                if (!field.toString().isBlank()) {
+                    return malformed(start);
+                }
+                field.setLength(0);
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+    }
+
+    private static Record malformed(long line) {
+        return new Record(line, List.of(), true);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.onemonth.global.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 크기가 고정된 다중 생산자 / 단일 소비자 링 버퍼
+ * - offer 는 락 없이 CAS 로 칸을 예약하고, 가득 차 있으면 기다리지 않고 false 반환
+ * - drain 은 한 스레드에서만 호출 (예약만 되고 아직 채워지지 않은 칸을 만나면 거기서 멈춤)
+ * - 용량은 2 의 거듭제곱으로 올림
+ */
+public class MpscRingBuffer<E> {
+    private final AtomicReferenceArray<E> slots; // null 이면 빈 칸
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // 다음에 예약할 위치 (생산자)
+    private volatile long head;                       // 다음에 꺼낼 위치 (소비자만 씀)
+
+    public MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public boolean offer(E element) {
+        long position;
+        do {
+            position = tail.get();
+            if (position - head >= slots.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+
+        slots.lazySet((int) position & mask, element);
+        return true;
+    }
+
+    /**
+     * 최대 limit 개를 꺼내서 consumer 에 전달
+     * @return 꺼낸 개수
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long position = head;
+        int count = 0;
+        while (count < limit) {
+            int index = (int) position & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            consumer.accept(element);
+            position++;
+            count++;
+        }
+        head = position; // 생산자가 새 head 를 보면 비워진 칸도 보임 (volatile 쓰기)
+        return count;
+    }
+
+    /**
+     * 근사값 (동시에 offer / drain 중이면 어긋날 수 있음)
+     */
+    public int size() {
+        return (int) Math.max(0L, Math.min(slots.length(), tail.get() - head));
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.onemonth;
+
+import com.example.onemonth.global.util.BloomFilter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    /**
+     * - 목적 : 추가한 값은 항상 포함된다고 판단하는지 테스트
+     * - 검증 : put 한 모든 값에 대해 mightContain 이 true 인지 확인 (false negative 없음)
+     */
+    @Test
+    void testNoFalseNegative() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i));
+        }
+    }
+
+    /**
+     * - 목적 : 오탐률이 설정값 근처로 유지되는지 테스트
+     * - 검증 : 추가하지 않은 값 10,000 개 중 오탐이 3% 미만인지 확인
+     */
+    @Test
+    void testFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300);
+    }
+}
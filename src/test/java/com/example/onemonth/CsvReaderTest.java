@@ -0,0 +1,83 @@
+package com.example.onemonth;
+
+import com.example.onemonth.global.util.CsvReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    /**
+     * - 목적 : 큰따옴표로 감싼 필드 테스트
+     * - 검증 : 필드 안의 쉼표 / "" / 줄바꿈이 값으로 읽히고, 다음 레코드의 줄 번호가 맞는지 확인
+     */
+    @Test
+    void testQuotedFields() throws IOException {
+        CsvReader reader = reader("alice,\"pa,ss\",\"say \"\"hi\"\"\"\n"
+                + "bob,\"multi\nline\", nick \n"
+                + "carol,pw\n");
+
+        CsvReader.Record first = reader.next();
+        CsvReader.Record second = reader.next();
+        CsvReader.Record third = reader.next();
+
+        assertEquals(List.of("alice", "pa,ss", "say \"hi\""), first.fields());
+        assertEquals(List.of("bob", "multi\nline", "nick"), second.fields());
+        assertEquals(2, second.line());
+        assertEquals(4, third.line());
+        assertEquals(List.of("carol", "pw"), third.fields());
+        assertNull(reader.next());
+    }
+
+    /**
+     * - 목적 : 빈 필드 테스트
+     * - 검증 : 연속된 쉼표 / 끝의 쉼표 / 빈 따옴표가 빈 문자열로 읽히는지 확인
+     */
+    @Test
+    void testEmptyFields() throws IOException {
+        CsvReader.Record record = reader("a,,\"\",\n").next();
+
+        assertFalse(record.malformed());
+        assertEquals(List.of("a", "", "", ""), record.fields());
+    }
+
+    /**
+     * - 목적 : 형식 오류 테스트
+     * - 검증 : 닫는 따옴표 뒤의 문자 / 감싸지 않은 필드 안의 따옴표는 형식 오류이고, 다음 줄부터 정상적으로 읽는지 확인
+     */
+    @Test
+    void testMalformedRecords() throws IOException {
+        CsvReader reader = reader("alice,\"pw\"x,nick\n"
+                + "bob,p\"w\n"
+                + "carol,pw\n");
+
+        assertTrue(reader.next().malformed());
+        assertTrue(reader.next().malformed());
+        CsvReader.Record record = reader.next();
+        assertFalse(record.malformed());
+        assertEquals(3, record.line());
+    }
+
+    /**
+     * - 목적 : 닫히지 않은 따옴표 테스트
+     * - 검증 : 입력 끝까지 따옴표가 닫히지 않으면 형식 오류로 끝나는지 확인
+     */
+    @Test
+    void testUnterminatedQuote() throws IOException {
+        CsvReader reader = reader("alice,\"pw\nbob,pw\n");
+
+        CsvReader.Record record = reader.next();
+        assertTrue(record.malformed());
+        assertEquals(1, record.line());
+        assertNull(reader.next());
+    }
+
+    private static CsvReader reader(String csv) {
+        return new CsvReader(new BufferedReader(new StringReader(csv)));
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.onemonth;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.config.JwtConfig;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.example.onemonth.global.jwt.Hs256TokenCodec;
+import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.global.jwt.KeyRing;
+import com.example.onemonth.global.jwt.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class Hs256TokenCodecTest {
+
+    @Mock
+    private JwtConfig jwtConfig;
+
+    private KeyRing keyRing;
+    private Hs256TokenCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        when(jwtConfig.getSecretKey()).thenReturn(Base64.getEncoder().encodeToString("secretKeysecretKeysecretKeysecretKey".getBytes()));
+        keyRing = KeyRing.from(jwtConfig);
+        codec = Hs256TokenCodec.from(keyRing);
+    }
+
+    /**
+     * - 목적 : codec 으로 발급한 토큰을 jjwt 가 검증할 수 있는지 테스트
+     * - 검증 : jjwt 파서로 읽은 jti / sub / auth / exp 가 발급 값과 같은지 확인
+     */
+    @Test
+    void testEncodedTokenIsReadableByJjwt() {
+        long now = System.currentTimeMillis();
+        String token = codec.encode("token-1", "testUser", UserRole.ADMIN, now, now + 60000);
+
+        Claims claims = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build().parseClaimsJws(token).getBody();
+
+        assertEquals("token-1", claims.getId());
+        assertEquals("testUser", claims.getSubject());
+        assertEquals("ADMIN", claims.get(JwtUtil.AUTHORIZATION));
+        assertEquals((now + 60000) / 1000, claims.getExpiration().getTime() / 1000);
+    }
+
+    /**
+     * - 목적 : jjwt 로 발급한 토큰 (kid 있음 / 없음) 을 codec 이 직접 검증하는지 테스트
+     * - 검증 : decode 결과가 null 이 아니고 (jjwt 로 넘기지 않음) 클레임이 같은지 확인
+     */
+    @Test
+    void testDecodeTokenIssuedByJjwt() {
+        long now = System.currentTimeMillis();
+        String withKid = jjwtToken(now, true);
+        String withoutKid = jjwtToken(now, false);
+
+        TokenClaims claims = codec.decode(withKid, now);
+        assertNotNull(claims);
+        assertEquals("token-2", claims.getTokenId());
+        assertEquals("testUser", claims.getUsername());
+        assertEquals(UserRole.USER, claims.getRole());
+        assertNotNull(codec.decode(withoutKid, now));
+    }
+
+    /**
+     * - 목적 : 서명이 변조된 토큰 / 만료된 토큰을 거부하는지 테스트
+     * - 검증 : 각각 INVALID_TOKEN, TOKEN_EXPIRATION 예외가 발생하는지 확인
+     */
+    @Test
+    void testRejectTamperedAndExpiredToken() {
+        long now = System.currentTimeMillis();
+        String token = codec.encode("token-3", "testUser", UserRole.USER, now, now + 60000);
+        char last = token.charAt(token.length() - 1);
+        String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        CustomException invalid = assertThrows(CustomException.class, () -> codec.decode(tampered, now));
+        assertEquals(ErrorCode.INVALID_TOKEN, invalid.getErrorCode());
+
+        CustomException expired = assertThrows(CustomException.class, () -> codec.decode(token, now + 120000));
+        assertEquals(ErrorCode.TOKEN_EXPIRATION, expired.getErrorCode());
+    }
+
+    /**
+     * - 목적 : RefreshToken 의 typ 클레임이 codec / jjwt 양쪽에서 같게 처리되는지 테스트
+     * - 검증 : codec 이 발급한 RefreshToken 을 jjwt 가 typ=refresh 로 읽고, jjwt 가 발급한 RefreshToken 을 codec 이 직접 refresh 로 읽는지 확인
+     */
+    @Test
+    void testRefreshTokenType() {
+        long now = System.currentTimeMillis();
+        String encoded = codec.encode("token-4", "testUser", UserRole.USER, now, now + 60000, true);
+
+        Claims claims = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build().parseClaimsJws(encoded).getBody();
+        assertEquals(JwtUtil.REFRESH_TOKEN_TYPE, claims.get(JwtUtil.TOKEN_TYPE));
+        assertTrue(codec.decode(encoded, now).isRefresh());
+        assertFalse(codec.decode(codec.encode("token-5", "testUser", UserRole.USER, now, now + 60000), now).isRefresh());
+
+        String issuedByJjwt = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getSigningKeyId())
+                .setId("token-6")
+                .setSubject("testUser")
+                .claim(JwtUtil.AUTHORIZATION, UserRole.USER.name())
+                .claim(JwtUtil.TOKEN_TYPE, JwtUtil.REFRESH_TOKEN_TYPE)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 60000))
+                .signWith(keyRing.getSigningKey(), keyRing.getAlgorithm())
+                .compact();
+        TokenClaims decoded = codec.decode(issuedByJjwt, now);
+        assertNotNull(decoded);
+        assertTrue(decoded.isRefresh());
+    }
+
+    private String jjwtToken(long now, boolean withKid) {
+        var builder = Jwts.builder();
+        if (withKid) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyRing.getSigningKeyId());
+        }
+        return builder.setId("token-2")
+                .setSubject("testUser")
+                .claim(JwtUtil.AUTHORIZATION, UserRole.USER.name())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 60000))
+                .signWith(keyRing.getSigningKey(), keyRing.getAlgorithm())
+                .compact();
+    }
+}
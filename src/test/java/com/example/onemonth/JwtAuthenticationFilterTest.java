@@ -0,0 +1,158 @@
+package com.example.onemonth;
+
+import com.example.onemonth.domain.user.UserRepository;
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.domain.user.UserService;
+import com.example.onemonth.domain.user.UsernameFilter;
+import com.example.onemonth.domain.user.dto.RefreshRequestDto;
+import com.example.onemonth.domain.user.dto.SignResponseDto;
+import com.example.onemonth.global.audit.LoginAuditTrail;
+import com.example.onemonth.global.common.ErrorResponseWriter;
+import com.example.onemonth.global.config.JwtConfig;
+import com.example.onemonth.global.datasource.ReadYourWritesTracker;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.example.onemonth.global.jwt.JwtAuthenticationFilter;
+import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.global.jwt.RefreshTokenStore;
+import com.example.onemonth.global.jwt.TokenRevocationList;
+import com.example.onemonth.global.metrics.AuthMetrics;
+import com.example.onemonth.global.security.LoginRateLimiter;
+import com.example.onemonth.global.security.PasswordHasher;
+import com.example.onemonth.global.security.RoutePolicy;
+import com.example.onemonth.global.security.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtUtil jwtUtil;
+    private UserService userService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = mock(JwtConfig.class);
+        when(jwtConfig.getTokenExpiration()).thenReturn(60000L);
+        when(jwtConfig.getRefreshTokenExpiration()).thenReturn(1209600000L);
+        when(jwtConfig.getSecretKey()).thenReturn(Base64.getEncoder().encodeToString("secretKeysecretKeysecretKeysecretKey".getBytes()));
+        when(jwtConfig.getRefreshReuseWindowSeconds()).thenReturn(60L);
+        when(jwtConfig.getRefreshMaxFamiliesPerUser()).thenReturn(10);
+        when(jwtConfig.getRevocationExpectedEntries()).thenReturn(1024L);
+        when(jwtConfig.getRevocationBucketSeconds()).thenReturn(60L);
+        when(jwtConfig.getRevocationFilePath()).thenReturn("");
+        jwtUtil = new JwtUtil(jwtConfig);
+
+        // 토큰 발급 / 재발급 / 로그아웃은 실제 저장소와 폐기 목록으로 처리
+        TokenRevocationList tokenRevocationList = new TokenRevocationList(jwtConfig);
+        AuthMetrics authMetrics = new AuthMetrics(meterRegistry);
+        userService = new UserService(mock(UserRepository.class), mock(PasswordHasher.class), jwtUtil,
+                mock(UsernameFilter.class), new RefreshTokenStore(jwtConfig), tokenRevocationList, authMetrics,
+                mock(LoginRateLimiter.class), mock(ReadYourWritesTracker.class), mock(LoginAuditTrail.class));
+
+        UserDetailsServiceImpl userDetailsService = mock(UserDetailsServiceImpl.class);
+        when(userDetailsService.loadUserByUsername("alice"))
+                .thenReturn(User.withUsername("alice").password("x").authorities("USER").build());
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, new ErrorResponseWriter(),
+                tokenRevocationList, authMetrics, new RoutePolicy());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * - 목적 : AccessToken 으로는 인증되고 RefreshToken 으로는 인증되지 않는지 테스트
+     * - 검증 : AccessToken 은 체인까지 도달하고, 같은 로그인에서 받은 RefreshToken 을 Bearer 로 보내면 401 인지 확인
+     */
+    @Test
+    void testRefreshTokenIsNotBearer() throws Exception {
+        SignResponseDto tokens = userService.issueTokens("alice", UserRole.USER, null);
+
+        assertEquals(200, authenticate(tokens.getAccessToken()).getStatus());
+        assertEquals(401, authenticate(tokens.getRefreshToken()).getStatus());
+    }
+
+    /**
+     * - 목적 : rotation 으로 사용된 RefreshToken 을 Bearer 로 쓸 수 없는지 테스트
+     * - 검증 : 재발급에 사용한 RefreshToken 이 Bearer 로 401 이고, 다시 재발급에 써도 거부되는지 확인
+     *          재발급 성공 / 재사용 거부가 signin 이 아닌 refresh 파이프라인 결과로 집계되는지 확인
+     */
+    @Test
+    void testRotatedRefreshToken() throws Exception {
+        SignResponseDto tokens = userService.issueTokens("alice", UserRole.USER, null);
+        SignResponseDto rotated = userService.refresh(new RefreshRequestDto(tokens.getRefreshToken()));
+
+        assertEquals(401, authenticate(tokens.getRefreshToken()).getStatus());
+        assertEquals(200, authenticate(rotated.getAccessToken()).getStatus());
+        CustomException reused = assertThrows(CustomException.class,
+                () -> userService.refresh(new RefreshRequestDto(tokens.getRefreshToken())));
+        assertEquals(ErrorCode.REFRESH_TOKEN_REUSED, reused.getErrorCode());
+
+        assertEquals(1, authResult("refresh", "SUCCESS"));
+        assertEquals(1, authResult("refresh", "REFRESH_TOKEN_REUSED"));
+        assertEquals(0, authResult("signin", "REFRESH_TOKEN_REUSED"));
+    }
+
+    /**
+     * - 목적 : 로그아웃한 토큰으로 인증 / 재발급되지 않는지 테스트
+     * - 검증 : 로그아웃 후 AccessToken, RefreshToken 모두 Bearer 로 401 이고, RefreshToken 으로 재발급도 거부되는지 확인
+     */
+    @Test
+    void testLoggedOutTokens() throws Exception {
+        SignResponseDto tokens = userService.issueTokens("alice", UserRole.USER, null);
+
+        userService.logout(JwtUtil.BEARER + tokens.getAccessToken(), new RefreshRequestDto(tokens.getRefreshToken()));
+
+        assertEquals(401, authenticate(tokens.getAccessToken()).getStatus());
+        assertEquals(401, authenticate(tokens.getRefreshToken()).getStatus());
+        assertThrows(CustomException.class, () -> userService.refresh(new RefreshRequestDto(tokens.getRefreshToken())));
+    }
+
+    /**
+     * - 목적 : 재발급 API 가 AccessToken 을 받지 않는지 테스트
+     * - 검증 : AccessToken 으로 재발급하면 INVALID_REFRESH_TOKEN 인지 확인
+     */
+    @Test
+    void testRefreshRejectsAccessToken() {
+        SignResponseDto tokens = userService.issueTokens("alice", UserRole.USER, null);
+
+        CustomException e = assertThrows(CustomException.class,
+                () -> userService.refresh(new RefreshRequestDto(tokens.getAccessToken())));
+        assertEquals(ErrorCode.INVALID_REFRESH_TOKEN, e.getErrorCode());
+    }
+
+    private double authResult(String pipeline, String outcome) {
+        Counter counter = meterRegistry.find("auth.result").tag("pipeline", pipeline).tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private MockHttpServletResponse authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/logout");
+        request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtUtil.BEARER + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(response.getStatus() == 200, chain.getRequest() != null); // 성공일 때만 체인까지 도달
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+}
@@ -3,7 +3,11 @@ package com.example.onemonth;
 import com.example.onemonth.domain.user.UserRole;
 import com.example.onemonth.global.config.JwtConfig;
 import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
 import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.global.jwt.TokenClaims;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.security.KeyPair;
 import java.util.Base64;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -98,6 +103,81 @@ class JwtUtilTest {
         assertEquals(userRole, extractedRole);
     }
 
+    /**
+     * - 목적 : 토큰 검증과 클레임 추출을 한 번에 수행하는 기능을 테스트
+     * - 검증 : 추출한 사용자 이름, 역할, 발급/만료 시각이 올바른지 확인
+     */
+    @Test
+    void testParseToken() {
+        String accessToken = jwtUtil.createAccessToken(userName, userRole);
+        TokenClaims claims = jwtUtil.parseToken(accessToken);
+        assertEquals(userName, claims.getUsername());
+        assertEquals(userRole, claims.getRole());
+        assertTrue(claims.getExpiration() > claims.getIssuedAt());
+    }
+
+    /**
+     * - 목적 : 검증된 토큰 캐시 기능을 테스트
+     * - 검증 : 같은 토큰을 두 번 검증하면 캐시된 동일한 클레임 객체가 반환되는지 확인
+     */
+    @Test
+    void testParseTokenWithCache() {
+        when(jwtConfig.getTokenCacheSize()).thenReturn(100L);
+        JwtUtil cachingJwtUtil = new JwtUtil(jwtConfig);
+
+        String accessToken = cachingJwtUtil.createAccessToken(userName, userRole);
+        TokenClaims first = cachingJwtUtil.parseToken(accessToken);
+        TokenClaims second = cachingJwtUtil.parseToken(accessToken);
+        assertSame(first, second);
+    }
+
+    /**
+     * - 목적 : 이전 키로 서명된 토큰 검증 (키 교체) 을 테스트
+     * - 검증 : 새 키 링에 이전 키를 등록하면 이전 키로 발급한 토큰도 검증되는지 확인
+     */
+    @Test
+    void testValidateTokenSignedWithPreviousKey() {
+        String oldToken = jwtUtil.createAccessToken(userName, userRole);
+
+        String oldSecret = jwtConfig.getSecretKey();
+        when(jwtConfig.getSecretKey()).thenReturn(Base64.getEncoder().encodeToString("newKeynewKeynewKeynewKeynewKeynewKey".getBytes()));
+        when(jwtConfig.getKeyId()).thenReturn("new");
+        when(jwtConfig.getPreviousKeys()).thenReturn("default=" + oldSecret);
+        JwtUtil rotatedJwtUtil = new JwtUtil(jwtConfig);
+
+        assertEquals(userName, rotatedJwtUtil.parseToken(oldToken).getUsername());
+        assertTrue(rotatedJwtUtil.validateToken(rotatedJwtUtil.createAccessToken(userName, userRole)));
+    }
+
+    /**
+     * - 목적 : ES256 서명 토큰 발급 / 검증을 테스트
+     * - 검증 : ES256 로 발급한 토큰이 검증되고 JWKS 공개키가 노출되는지 확인
+     */
+    @Test
+    void testCreateTokenWithEs256() {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        when(jwtConfig.getAlgorithm()).thenReturn("ES256");
+        when(jwtConfig.getEcPrivateKey()).thenReturn(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        when(jwtConfig.getEcPublicKey()).thenReturn(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        JwtUtil ecJwtUtil = new JwtUtil(jwtConfig);
+
+        String accessToken = ecJwtUtil.createAccessToken(userName, userRole);
+        assertEquals(userName, ecJwtUtil.parseToken(accessToken).getUsername());
+        assertEquals(1, ecJwtUtil.getKeyRing().getPublicJwks().size());
+        assertThrows(CustomException.class, () -> jwtUtil.validateToken(accessToken));
+    }
+
+    /**
+     * - 목적 : ES256 을 선택하고 EC 키를 설정하지 않은 경우 테스트
+     * - 검증 : 임시 키로 기동하지 않고 IllegalArgumentException 으로 실패하는지 확인
+     */
+    @Test
+    void testEs256WithoutKeysFails() {
+        when(jwtConfig.getAlgorithm()).thenReturn("ES256");
+
+        assertThrows(IllegalArgumentException.class, () -> new JwtUtil(jwtConfig));
+    }
+
     /**
      * - 목적 : Refresh Token을 사용하여 Access Token을 생성하는 기능을 테스트
      * - 검증 : 생성된 Access Token이 null이 아니고, 유효한지 검증
@@ -110,6 +190,23 @@ class JwtUtilTest {
         assertTrue(jwtUtil.validateToken(accessToken));
     }
 
+    /**
+     * - 목적 : AccessToken / RefreshToken 용도 구분을 테스트
+     * - 검증 : parseAccessToken 은 RefreshToken 을 INVALID_TOKEN 으로, parseRefreshToken 은 AccessToken 을 INVALID_REFRESH_TOKEN 으로 거부하는지 확인
+     */
+    @Test
+    void testTokenUse() {
+        String accessToken = jwtUtil.createAccessToken(userName, userRole);
+        String refreshToken = jwtUtil.createRefreshToken(userName, userRole);
+
+        assertEquals(userName, jwtUtil.parseAccessToken(accessToken).getUsername());
+        assertEquals(userName, jwtUtil.parseRefreshToken(refreshToken).getUsername());
+        assertEquals(ErrorCode.INVALID_TOKEN,
+                assertThrows(CustomException.class, () -> jwtUtil.parseAccessToken(refreshToken)).getErrorCode());
+        assertEquals(ErrorCode.INVALID_REFRESH_TOKEN,
+                assertThrows(CustomException.class, () -> jwtUtil.parseRefreshToken(accessToken)).getErrorCode());
+    }
+
     /**
      * - 목적 : 유효하지 않은 Refresh Token을 사용할 때 Access Token 생성의 실패를 테스트
      * - 검증 : 잘못된 Refresh Token을 사용해 Access Token을 생성할 때 IllegalArgumentException이 발생하는지 확인
@@ -0,0 +1,297 @@
+package com.example.onemonth;
+
+import com.example.onemonth.global.audit.LoginAuditEvent;
+import com.example.onemonth.global.audit.LoginAuditTrail;
+import com.example.onemonth.global.audit.LoginAuditWriter;
+import com.example.onemonth.global.config.LoginAuditConfig;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoginAuditWriterTest {
+
+    private static final String CREATE_LOGIN_AUDIT = "create table login_audit (id bigint auto_increment primary key, "
+            + "username varchar(255) not null, client_ip varchar(45), occurred_at timestamp(6) not null, "
+            + "success boolean not null, error_code varchar(64))";
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build(); // 앱과 같은 설정
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private Path spillPath;
+    private LoginAuditWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        // loadTest 와 같은 H2 MySQL 호환 모드 (USER 는 H2 예약어)
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:audit-" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table user (id bigint primary key, username varchar(255) not null, last_login_at timestamp(6))");
+        jdbcTemplate.update("insert into user (id, username) values (1, 'alice'), (2, 'bob')");
+        spillPath = tempDir.resolve("login-audit.ndjson");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+        jdbcTemplate.execute("shutdown");
+    }
+
+    /**
+     * - 목적 : batch-size 만큼 모이면 flush-interval 을 기다리지 않고 기록하는지 테스트
+     * - 검증 : flush-interval 이 1 분이어도 batch-size (3) 개를 발행하면 바로 기록되고, 성공 / 실패 정보가 그대로 저장되는지 확인
+     */
+    @Test
+    void testFlushBySize() {
+        jdbcTemplate.execute(CREATE_LOGIN_AUDIT);
+        LoginAuditTrail trail = start(config(1024, 3, 60_000, 0.75));
+
+        trail.success("alice", "10.0.0.1");
+        trail.failure("alice", "10.0.0.1", new CustomException(ErrorCode.PASSWORD_NOT_CORRECT));
+        trail.failure("bob", null, new IllegalStateException());
+
+        await(() -> count("login_audit") == 3);
+        assertEquals(List.of("PASSWORD_NOT_CORRECT", "INTERNAL_SERVER_ERROR"), jdbcTemplate.queryForList(
+                "select error_code from login_audit where success = false order by id", String.class));
+        assertEquals("10.0.0.1", jdbcTemplate.queryForObject(
+                "select client_ip from login_audit where success = true", String.class));
+    }
+
+    /**
+     * - 목적 : batch-size 에 못 미쳐도 flush-interval 이 지나면 기록하는지 테스트
+     * - 검증 : batch-size 100 에 1 건만 발행해도 기록되는지 확인
+     */
+    @Test
+    void testFlushByTime() {
+        jdbcTemplate.execute(CREATE_LOGIN_AUDIT);
+        LoginAuditTrail trail = start(config(1024, 100, 200, 0.75));
+
+        trail.success("alice", "10.0.0.1");
+
+        await(() -> count("login_audit") == 1);
+    }
+
+    /**
+     * - 목적 : last_login_at 갱신 순서 테스트
+     * - 검증 : 같은 batch 에서는 가장 최근 성공 시각이 반영되고, 이미 더 늦은 시각이 있으면 이전 시각으로 덮어쓰지 않는지 확인
+     */
+    @Test
+    void testLastLoginAtOrdering() throws InterruptedException {
+        jdbcTemplate.execute(CREATE_LOGIN_AUDIT);
+        Timestamp future = new Timestamp(System.currentTimeMillis() + Duration.ofDays(1).toMillis());
+        jdbcTemplate.update("update user set last_login_at = ? where username = 'bob'", future);
+        LoginAuditTrail trail = start(config(1024, 4, 60_000, 0.75));
+
+        trail.success("alice", "10.0.0.1");
+        Thread.sleep(5);
+        trail.success("alice", "10.0.0.1");
+        trail.failure("alice", "10.0.0.1", new CustomException(ErrorCode.PASSWORD_NOT_CORRECT));
+        trail.success("bob", "10.0.0.2");
+
+        await(() -> count("login_audit") == 4);
+        Timestamp latest = jdbcTemplate.queryForObject(
+                "select max(occurred_at) from login_audit where username = 'alice' and success = true", Timestamp.class);
+        assertEquals(latest, jdbcTemplate.queryForObject(
+                "select last_login_at from user where username = 'alice'", Timestamp.class));
+        assertEquals(future, jdbcTemplate.queryForObject(
+                "select last_login_at from user where username = 'bob'", Timestamp.class));
+    }
+
+    /**
+     * - 목적 : JVM 기본 시간대가 UTC 가 아니어도 시각을 UTC 로 기록하는지 테스트 (Hibernate 의 Instant 매핑과 같은 기준)
+     * - 검증 : 기본 시간대와 세션 시간대를 Asia/Seoul 로 두고 기록한 occurred_at / last_login_at 을 UTC 로 읽었을 때 발행 시각과 같은지 확인
+     */
+    @Test
+    void testTimestampsAreUtc() {
+        TimeZone defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+        try {
+            // MySQL 드라이버 (connectionTimeZone=LOCAL) 처럼 세션 시간대를 JVM 기본 시간대와 맞춤
+            dataSource = new DriverManagerDataSource(dataSource.getUrl() + ";INIT=SET TIME ZONE 'Asia/Seoul'");
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute(CREATE_LOGIN_AUDIT);
+            LoginAuditTrail trail = start(config(1024, 1, 60_000, 0.75));
+
+            long before = System.currentTimeMillis();
+            trail.success("alice", "10.0.0.1");
+            long after = System.currentTimeMillis();
+
+            await(() -> utcMillis("select last_login_at from user where username = 'alice'") != null);
+            long occurredAt = utcMillis("select occurred_at from login_audit");
+            assertTrue(before <= occurredAt && occurredAt <= after, "occurred_at 이 UTC 기준 발행 시각과 다름");
+            assertEquals(occurredAt, utcMillis("select last_login_at from user where username = 'alice'"));
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
+    /**
+     * - 목적 : DB 기록 실패 시 spill 후 재처리 테스트
+     * - 검증 : 테이블이 없어 실패한 기록이 파일로 옮겨지고, 테이블이 생긴 뒤 재처리되어 파일이 지워지는지 확인
+     */
+    @Test
+    void testSpillOnFailureAndReplay() {
+        LoginAuditTrail trail = start(config(1024, 2, 60_000, 0.75));
+
+        trail.success("alice", "10.0.0.1");
+        trail.success("bob", "10.0.0.2");
+
+        await(() -> meterRegistry.counter("login.audit.spilled").count() == 2);
+        assertTrue(Files.exists(spillPath) || Files.exists(replayPath())); // 재처리 시도 중이면 .replay
+
+        jdbcTemplate.execute(CREATE_LOGIN_AUDIT);
+
+        await(() -> count("login_audit") == 2 && !Files.exists(spillPath) && !Files.exists(replayPath()));
+        assertEquals(2, meterRegistry.counter("login.audit.replayed").count());
+        assertNotNull(jdbcTemplate.queryForObject(
+                "select last_login_at from user where username = 'alice'", Timestamp.class));
+    }
+
+    /**
+     * - 목적 : 버퍼가 spill-watermark 이상 차 있으면 DB 대신 파일로 기록하는지 테스트
+     * - 검증 : 용량 4 버퍼에 4 건이 쌓인 상태에서 시작하면 첫 batch 는 파일로, 나머지는 DB 로 기록되고 결국 모두 DB 에 들어가는지 확인
+     */
+    @Test
+    void testSpillOnWatermark() {
+        jdbcTemplate.execute(CREATE_LOGIN_AUDIT);
+        LoginAuditConfig config = config(4, 2, 60_000, 0.5);
+        LoginAuditTrail trail = new LoginAuditTrail(config, meterRegistry);
+        for (int i = 0; i < 4; i++) {
+            trail.success("alice", "10.0.0." + i);
+        }
+
+        start(trail, config);
+
+        await(() -> count("login_audit") == 4);
+        assertEquals(2, meterRegistry.counter("login.audit.spilled").count());
+        assertEquals(2, meterRegistry.counter("login.audit.written").count());
+    }
+
+    /**
+     * - 목적 : 재처리 도중 실패하면 이어서 재처리하는지 테스트
+     * - 검증 : 두 번째 batch 에서 실패한 뒤 다시 시도할 때 이미 기록한 첫 batch 를 중복 기록하지 않는지 확인
+     */
+    @Test
+    void testReplayResumesAfterFailure() throws Exception {
+        jdbcTemplate.execute(CREATE_LOGIN_AUDIT);
+        jdbcTemplate.execute("alter table login_audit add constraint chk_no_carol check (username <> 'carol')");
+        long now = System.currentTimeMillis();
+        StringBuilder spilled = new StringBuilder();
+        for (String username : List.of("alice", "bob", "carol", "dave")) {
+            spilled.append(objectMapper.writeValueAsString(new LoginAuditEvent(username, "10.0.0.1", now, null))).append('\n');
+        }
+        Files.writeString(spillPath, spilled);
+
+        start(config(1024, 2, 60_000, 0.75));
+
+        await(() -> count("login_audit") == 2);
+        jdbcTemplate.execute("alter table login_audit drop constraint chk_no_carol");
+
+        await(() -> count("login_audit") == 4 && !Files.exists(replayPath()));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from login_audit where username = 'alice'", Integer.class));
+        assertEquals(4, meterRegistry.counter("login.audit.replayed").count());
+    }
+
+    /**
+     * - 목적 : 종료 시 버퍼에 남은 기록을 모두 처리하는지 테스트
+     * - 검증 : batch-size / flush-interval 에 도달하지 않은 기록이 stop 이 끝났을 때 모두 저장되어 있는지 확인
+     */
+    @Test
+    void testDrainOnShutdown() throws InterruptedException {
+        jdbcTemplate.execute(CREATE_LOGIN_AUDIT);
+        LoginAuditTrail trail = start(config(1024, 100, 60_000, 0.75));
+        for (int i = 0; i < 5; i++) {
+            trail.success("alice", "10.0.0.1");
+        }
+
+        writer.stop();
+        writer = null;
+
+        assertEquals(5, count("login_audit"));
+    }
+
+    private LoginAuditTrail start(LoginAuditConfig config) {
+        LoginAuditTrail trail = new LoginAuditTrail(config, meterRegistry);
+        start(trail, config);
+        return trail;
+    }
+
+    private void start(LoginAuditTrail trail, LoginAuditConfig config) {
+        writer = new LoginAuditWriter(trail, jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                objectMapper, config, meterRegistry);
+        writer.start();
+    }
+
+    private LoginAuditConfig config(int bufferSize, int batchSize, long flushIntervalMillis, double spillWatermark) {
+        LoginAuditConfig config = mock(LoginAuditConfig.class);
+        when(config.isEnabled()).thenReturn(true);
+        when(config.getBufferSize()).thenReturn(bufferSize);
+        when(config.getBatchSize()).thenReturn(batchSize);
+        when(config.getFlushIntervalMillis()).thenReturn(flushIntervalMillis);
+        when(config.getSpillPath()).thenReturn(spillPath.toString());
+        when(config.getSpillWatermark()).thenReturn(spillWatermark);
+        when(config.getRetryBackoffMillis()).thenReturn(100L);
+        return config;
+    }
+
+    private Path replayPath() {
+        return spillPath.resolveSibling(spillPath.getFileName() + ".replay");
+    }
+
+    private Long utcMillis(String sql) {
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        return jdbcTemplate.query(sql, rs -> {
+            Timestamp timestamp = rs.next() ? rs.getTimestamp(1, utc) : null;
+            return timestamp == null ? null : timestamp.getTime();
+        });
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met within 10 seconds");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.onemonth;
+
+import com.example.onemonth.global.util.MpscRingBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpscRingBufferTest {
+
+    /**
+     * - 목적 : 넣은 순서대로 꺼내는지 테스트
+     * - 검증 : limit 만큼만 꺼내고, 이어서 꺼내면 나머지가 순서대로 나오는지 확인
+     */
+    @Test
+    void testDrainInOrder() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, buffer.drain(drained::add, 3));
+        assertEquals(2, buffer.drain(drained::add, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    /**
+     * - 목적 : 가득 찬 버퍼에서 offer 가 기다리지 않고 실패하는지 테스트
+     * - 검증 : 용량 (2 의 거듭제곱으로 올림) 을 넘기면 false, 비운 뒤에는 다시 true 인지 확인
+     */
+    @Test
+    void testOfferFailsWhenFull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        assertEquals(1, buffer.drain(value -> { }, 1));
+        assertTrue(buffer.offer(4));
+    }
+
+    /**
+     * - 목적 : 여러 스레드가 동시에 offer 해도 유실 / 중복이 없는지 테스트
+     * - 검증 : 생산자 4 개가 넣은 값을 소비자 하나가 모두 한 번씩 꺼내는지 확인
+     */
+    @Test
+    void testMultipleProducers() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> duplicates = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (seen.size() + duplicates.size() < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drain(value -> {
+                if (!seen.add(value)) {
+                    duplicates.add(value);
+                }
+            }, 256);
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertTrue(duplicates.isEmpty());
+        assertEquals(producers * perProducer, seen.size());
+    }
+}
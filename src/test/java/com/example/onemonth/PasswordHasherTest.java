@@ -0,0 +1,102 @@
+package com.example.onemonth;
+
+import com.example.onemonth.global.config.PasswordHashConfig;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.example.onemonth.global.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.Disposable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHasher.shutdown();
+    }
+
+    /**
+     * - 목적 : *Async 메서드가 풀에서 해싱 결과를 돌려주는지 테스트
+     * - 검증 : encodeAsync / matchesAsync 결과가 PasswordEncoder 결과와 같은지 확인
+     */
+    @Test
+    void testAsyncResult() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode("raw")).thenReturn("hashed");
+        when(encoder.matches("raw", "hashed")).thenReturn(true);
+        passwordHasher = new PasswordHasher(encoder, config(1, 1, 5000), new SimpleMeterRegistry());
+
+        assertEquals("hashed", passwordHasher.encodeAsync("raw").block());
+        assertTrue(passwordHasher.matchesAsync("raw", "hashed").block());
+    }
+
+    /**
+     * - 목적 : 풀과 큐가 모두 차 있으면 기다리지 않고 거절하는지 테스트
+     * - 검증 : 스레드 1 개 / 큐 1 개가 사용 중일 때 세 번째 요청이 PASSWORD_HASHING_BUSY 인지 확인
+     */
+    @Test
+    void testAsyncRejectedWhenBusy() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        passwordHasher = new PasswordHasher(blockingEncoder(started), config(1, 1, 5000), new SimpleMeterRegistry());
+
+        Disposable running = passwordHasher.encodeAsync("first").subscribe();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Disposable queued = passwordHasher.encodeAsync("second").subscribe();
+
+        CustomException e = assertThrows(CustomException.class, () -> passwordHasher.encodeAsync("third").block());
+        assertEquals(ErrorCode.PASSWORD_HASHING_BUSY, e.getErrorCode());
+        running.dispose();
+        queued.dispose();
+    }
+
+    /**
+     * - 목적 : 해싱이 timeout 을 넘기면 PASSWORD_HASHING_BUSY 로 끝나는지 테스트
+     * - 검증 : 끝나지 않는 해싱을 50ms timeout 으로 기다렸을 때의 ErrorCode 확인
+     */
+    @Test
+    void testAsyncTimeout() {
+        passwordHasher = new PasswordHasher(blockingEncoder(new CountDownLatch(1)), config(1, 1, 50), new SimpleMeterRegistry());
+
+        CustomException e = assertThrows(CustomException.class,
+                () -> passwordHasher.matchesAsync("raw", "hashed").block());
+        assertEquals(ErrorCode.PASSWORD_HASHING_BUSY, e.getErrorCode());
+    }
+
+    // release 될 때까지 끝나지 않는 인코더
+    private PasswordEncoder blockingEncoder(CountDownLatch started) {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hashed";
+        });
+        when(encoder.matches(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        return encoder;
+    }
+
+    private static PasswordHashConfig config(int poolSize, int queueCapacity, long timeoutMillis) {
+        PasswordHashConfig config = mock(PasswordHashConfig.class);
+        when(config.getPoolSize()).thenReturn(poolSize);
+        when(config.getQueueCapacity()).thenReturn(queueCapacity);
+        when(config.getTimeoutMillis()).thenReturn(timeoutMillis);
+        return config;
+    }
+}
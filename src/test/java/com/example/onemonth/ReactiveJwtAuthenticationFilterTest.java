@@ -0,0 +1,143 @@
+package com.example.onemonth;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.common.ErrorResponseWriter;
+import com.example.onemonth.global.config.JwtConfig;
+import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.global.jwt.ReactiveJwtAuthenticationFilter;
+import com.example.onemonth.global.jwt.TokenRevocationList;
+import com.example.onemonth.global.metrics.AuthMetrics;
+import com.example.onemonth.global.security.RoutePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactiveJwtAuthenticationFilterTest {
+
+    private JwtUtil jwtUtil;
+    private TokenRevocationList tokenRevocationList;
+    private ReactiveJwtAuthenticationFilter filter;
+
+    // 체인까지 도달했는지, 그때의 인증 정보
+    private final AtomicBoolean reached = new AtomicBoolean();
+    private final AtomicReference<Authentication> authentication = new AtomicReference<>();
+    private final WebFilterChain chain = exchange -> ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .doOnNext(authentication::set)
+            .then(Mono.fromRunnable(() -> reached.set(true)));
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = mock(JwtConfig.class);
+        when(jwtConfig.getTokenExpiration()).thenReturn(60000L);
+        when(jwtConfig.getRefreshTokenExpiration()).thenReturn(1209600000L);
+        when(jwtConfig.getSecretKey()).thenReturn(Base64.getEncoder().encodeToString("secretKeysecretKeysecretKeysecretKey".getBytes()));
+        jwtUtil = new JwtUtil(jwtConfig);
+
+        ReactiveUserDetailsService userDetailsService = username -> "alice".equals(username)
+                ? Mono.just(User.withUsername("alice").password("x").authorities("USER").build())
+                : Mono.empty();
+        tokenRevocationList = mock(TokenRevocationList.class);
+
+        filter = new ReactiveJwtAuthenticationFilter(jwtUtil, userDetailsService, new ErrorResponseWriter(),
+                tokenRevocationList, new AuthMetrics(new SimpleMeterRegistry()), new RoutePolicy());
+    }
+
+    /**
+     * - 목적 : 유효한 토큰으로 인증 정보가 설정되는지 테스트
+     * - 검증 : 체인까지 도달하고, 토큰의 사용자 / 권한이 보안 컨텍스트에 들어가는지 확인
+     */
+    @Test
+    void testValidToken() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.post("/users/logout")
+                .header("Authorization", "Bearer " + jwtUtil.createAccessToken("alice", UserRole.ADMIN)));
+
+        filter.filter(exchange, chain).block();
+
+        assertTrue(reached.get());
+        assertNotNull(authentication.get());
+        assertEquals("alice", authentication.get().getName());
+        assertEquals("ADMIN", authentication.get().getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).findFirst().orElseThrow());
+    }
+
+    /**
+     * - 목적 : 공개 경로 / 헤더 없는 GET 요청은 JWT 처리 없이 통과하는지 테스트
+     * - 검증 : 체인에 도달하고 인증 정보가 없는지 확인
+     */
+    @Test
+    void testPublicAndAnonymousGet() {
+        filter.filter(exchange(MockServerHttpRequest.post("/users/sign")), chain).block();
+        assertTrue(reached.getAndSet(false));
+
+        filter.filter(exchange(MockServerHttpRequest.get("/check")), chain).block();
+        assertTrue(reached.get());
+        assertNull(authentication.get());
+    }
+
+    /**
+     * - 목적 : 잘못된 요청이 체인에 도달하지 않고 에러 응답으로 끝나는지 테스트
+     * - 검증 : 헤더 누락 / 위조 토큰 / 폐기된 토큰 / 없는 사용자 각각의 상태 코드 확인
+     */
+    @Test
+    void testRejectedRequests() {
+        assertRejected(MockServerHttpRequest.post("/users/logout"), HttpStatus.BAD_REQUEST);
+        String token = jwtUtil.createAccessToken("alice", UserRole.USER);
+        String forged = token.substring(0, token.lastIndexOf('.') + 1) + "A".repeat(43); // 서명만 바꿈
+        assertRejected(MockServerHttpRequest.post("/users/logout").header("Authorization", "Bearer " + forged),
+                HttpStatus.UNAUTHORIZED);
+        assertRejected(MockServerHttpRequest.post("/users/logout")
+                .header("Authorization", "Bearer " + jwtUtil.createAccessToken("bob", UserRole.USER)),
+                HttpStatus.INTERNAL_SERVER_ERROR);
+
+        when(tokenRevocationList.isRevoked(any())).thenReturn(true);
+        assertRejected(MockServerHttpRequest.post("/users/logout")
+                .header("Authorization", "Bearer " + jwtUtil.createAccessToken("alice", UserRole.USER)),
+                HttpStatus.UNAUTHORIZED);
+    }
+
+    /**
+     * - 목적 : RefreshToken 을 Bearer 로 보내면 거부되는지 테스트
+     * - 검증 : 유효한 사용자의 RefreshToken 이어도 체인에 도달하지 않고 401 인지 확인
+     */
+    @Test
+    void testRefreshTokenIsNotBearer() {
+        assertRejected(MockServerHttpRequest.post("/users/logout")
+                .header("Authorization", "Bearer " + jwtUtil.createRefreshToken("alice", UserRole.USER)),
+                HttpStatus.UNAUTHORIZED);
+    }
+
+    private void assertRejected(MockServerHttpRequest.BaseBuilder<?> request, HttpStatus status) {
+        MockServerWebExchange exchange = exchange(request);
+        reached.set(false);
+
+        filter.filter(exchange, chain).block();
+
+        assertFalse(reached.get());
+        assertEquals(status, exchange.getResponse().getStatusCode());
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
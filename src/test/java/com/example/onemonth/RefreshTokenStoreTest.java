@@ -0,0 +1,132 @@
+package com.example.onemonth;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.config.JwtConfig;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.example.onemonth.global.jwt.RefreshTokenStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenStoreTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * - 목적 : rotation 테스트
+     * - 검증 : 사용한 토큰은 제거되고, 같은 family 로 등록한 새 토큰은 사용 가능한지 확인
+     */
+    @Test
+    void testRotation() {
+        RefreshTokenStore store = new RefreshTokenStore(config(null, 10));
+        long expiresAt = System.currentTimeMillis() + HOUR;
+        store.register("t1", "alice", UserRole.USER, null, expiresAt);
+
+        RefreshTokenStore.Entry first = store.consume("t1");
+        store.register("t2", "alice", UserRole.USER, first.familyId(), expiresAt);
+        RefreshTokenStore.Entry second = store.consume("t2");
+
+        assertEquals("t1", first.familyId());
+        assertEquals("t1", second.familyId());
+        assertEquals("alice", second.username());
+        assertEquals(0, store.size());
+    }
+
+    /**
+     * - 목적 : 이미 사용된 토큰 재사용 감지 테스트
+     * - 검증 : 사용된 토큰이 다시 들어오면 REFRESH_TOKEN_REUSED 이고, 같은 family 의 현재 토큰까지 폐기되는지 확인
+     */
+    @Test
+    void testReuseRevokesFamily() {
+        RefreshTokenStore store = new RefreshTokenStore(config(null, 10));
+        long expiresAt = System.currentTimeMillis() + HOUR;
+        store.register("t1", "alice", UserRole.USER, null, expiresAt);
+        store.register("t2", "alice", UserRole.USER, store.consume("t1").familyId(), expiresAt);
+
+        CustomException reused = assertThrows(CustomException.class, () -> store.consume("t1"));
+        CustomException revoked = assertThrows(CustomException.class, () -> store.consume("t2"));
+
+        assertEquals(ErrorCode.REFRESH_TOKEN_REUSED, reused.getErrorCode());
+        assertEquals(ErrorCode.INVALID_REFRESH_TOKEN, revoked.getErrorCode());
+    }
+
+    /**
+     * - 목적 : 로그아웃 시 family 폐기 테스트
+     * - 검증 : rotation 으로 이미 사용된 토큰으로 요청해도 family 의 현재 토큰이 폐기되는지 확인
+     */
+    @Test
+    void testRevokeFamilyOf() {
+        RefreshTokenStore store = new RefreshTokenStore(config(null, 10));
+        long expiresAt = System.currentTimeMillis() + HOUR;
+        store.register("t1", "alice", UserRole.USER, null, expiresAt);
+        store.register("t2", "alice", UserRole.USER, store.consume("t1").familyId(), expiresAt);
+
+        store.revokeFamilyOf("t1");
+
+        assertEquals(0, store.size());
+        assertThrows(CustomException.class, () -> store.consume("t2"));
+    }
+
+    /**
+     * - 목적 : 사용자별 family 수 제한 테스트
+     * - 검증 : 로그인을 반복해도 저장소 크기가 제한을 넘지 않고, 가장 오래된 family 부터 폐기되는지 확인
+     */
+    @Test
+    void testMaxFamiliesPerUser() {
+        RefreshTokenStore store = new RefreshTokenStore(config(null, 3));
+        long expiresAt = System.currentTimeMillis() + HOUR;
+
+        for (int i = 0; i < 100; i++) {
+            store.register("a" + i, "alice", UserRole.USER, null, expiresAt);
+        }
+        store.register("b0", "bob", UserRole.USER, null, expiresAt);
+
+        assertEquals(4, store.size());
+        assertThrows(CustomException.class, () -> store.consume("a96"));
+        assertEquals("a97", store.consume("a97").familyId());
+        assertEquals("b0", store.consume("b0").familyId());
+    }
+
+    /**
+     * - 목적 : 스냅샷 저장 / 복원 테스트
+     * - 검증 : 저장 후 새 인스턴스에서 유효한 토큰만 복원되고, 복원된 토큰의 정보가 같은지 확인
+     */
+    @Test
+    void testSnapshotRoundTrip() {
+        Path snapshot = tempDir.resolve("refresh-tokens.bin");
+        long now = System.currentTimeMillis();
+
+        RefreshTokenStore first = new RefreshTokenStore(config(snapshot, 10));
+        first.register("t1", "alice", UserRole.ADMIN, null, now + HOUR);
+        first.register("t2", "bob", UserRole.USER, "family-b", now + HOUR);
+        first.register("expired", "carol", UserRole.USER, null, now - 1);
+        first.saveSnapshot();
+
+        RefreshTokenStore second = new RefreshTokenStore(config(snapshot, 10));
+        second.loadSnapshot();
+
+        assertEquals(2, second.size());
+        RefreshTokenStore.Entry alice = second.consume("t1");
+        assertEquals(UserRole.ADMIN, alice.role());
+        assertEquals(now + HOUR, alice.expiresAt());
+        assertEquals("family-b", second.consume("t2").familyId());
+        assertThrows(CustomException.class, () -> second.consume("expired"));
+    }
+
+    private static JwtConfig config(Path snapshot, int maxFamiliesPerUser) {
+        JwtConfig jwtConfig = mock(JwtConfig.class);
+        when(jwtConfig.getRefreshStoreSnapshotPath()).thenReturn(snapshot == null ? "" : snapshot.toString());
+        when(jwtConfig.getRefreshReuseWindowSeconds()).thenReturn(3600L);
+        when(jwtConfig.getRefreshMaxFamiliesPerUser()).thenReturn(maxFamiliesPerUser);
+        return jwtConfig;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.onemonth;
+
+import com.example.onemonth.domain.user.User;
+import com.example.onemonth.domain.user.UserRepository;
+import com.example.onemonth.global.datasource.ReplicationRoutingDataSource;
+import com.example.onemonth.global.security.PrincipalCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReplicationRoutingDataSourceTest {
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTemplate;
+    private TransactionTemplate readOnlyTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // primary 1 개 + replica 2 개를 H2 메모리 DB 로 대신함
+        DataSource primary = database("primary");
+        DataSource replica0 = database("replica0");
+        DataSource replica1 = database("replica1");
+
+        routingDataSource = new ReplicationRoutingDataSource(primary, List.of(replica0, replica1),
+                ReplicationRoutingDataSource.Strategy.ROUND_ROBIN);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String name : List.of("primary", "replica0", "replica1")) {
+            new JdbcTemplate(database(name)).execute("DROP ALL OBJECTS");
+        }
+    }
+
+    /**
+     * - 목적 : 쓰기 트랜잭션은 primary 로 가는지 테스트
+     * - 검증 : 쓰기 트랜잭션 안에서 조회한 DB 이름이 primary 인지 확인
+     */
+    @Test
+    void testWriteTransactionUsesPrimary() {
+        assertEquals("primary", writeTemplate.execute(status -> currentDatabase()));
+    }
+
+    /**
+     * - 목적 : 읽기 전용 트랜잭션은 replica 를 번갈아 사용하는지 테스트
+     * - 검증 : 연속된 읽기 전용 트랜잭션 두 번이 replica0, replica1 로 나뉘는지 확인
+     */
+    @Test
+    void testReadOnlyTransactionUsesReplicasInTurn() {
+        String first = readOnlyTemplate.execute(status -> currentDatabase());
+        String second = readOnlyTemplate.execute(status -> currentDatabase());
+
+        assertTrue(first.startsWith("replica"));
+        assertTrue(second.startsWith("replica"));
+        assertNotEquals(first, second);
+    }
+
+    /**
+     * - 목적 : onPrimary 로 감싼 읽기는 readOnly 여도 primary 로 가는지 테스트 (read-your-writes)
+     * - 검증 : primary 에만 넣은 데이터를 읽기 전용 트랜잭션에서 조회할 수 있는지 확인
+     */
+    @Test
+    void testOnPrimaryReadsOwnWrite() {
+        writeTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO marker (name) VALUES ('new-user')"));
+
+        Integer fromReplica = readOnlyTemplate.execute(status -> countNewUser());
+        Integer fromPrimary = ReplicationRoutingDataSource.onPrimary(() -> readOnlyTemplate.execute(status -> countNewUser()));
+
+        assertEquals(0, fromReplica);
+        assertEquals(1, fromPrimary);
+    }
+
+    /**
+     * - 목적 : 트랜잭션 밖에서 호출한 repository 조회가 replica 로 가는지 테스트 (로그인 시 findByNaturalId)
+     * - 검증 : 실제 Spring Data 프록시를 거친 findByNaturalId / existsByUsername 이 replica 에서, onPrimary 안에서는 primary 에서 읽는지 확인
+     */
+    @Test
+    void testRepositoryReadsUseReplica() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(JpaTestConfig.class)) {
+            UserRepository userRepository = context.getBean(UserRepository.class);
+
+            String first = userRepository.findByNaturalId("alice").orElseThrow().getNickname();
+            String second = userRepository.findByNaturalId("alice").orElseThrow().getNickname();
+            assertTrue(first.startsWith("jpa-replica"));
+            assertTrue(second.startsWith("jpa-replica"));
+            assertNotEquals(first, second);
+
+            assertFalse(userRepository.existsByUsername("primary-only"));
+            assertEquals("jpa-primary", ReplicationRoutingDataSource.onPrimary(
+                    () -> userRepository.findByNaturalId("alice").orElseThrow().getNickname()));
+            assertTrue(ReplicationRoutingDataSource.onPrimary(() -> userRepository.existsByUsername("primary-only")));
+        }
+    }
+
+    /**
+     * primary / replica 마다 nickname 이 DB 이름인 alice 를 넣어 두고, 실제 UserRepository 프록시를 구성
+     * (2차 캐시는 끔, primary 에만 primary-only 사용자)
+     */
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = UserRepository.class))
+    static class JpaTestConfig {
+
+        @Bean
+        public DataSource dataSource() {
+            String suffix = UUID.randomUUID().toString();
+            DataSource primary = userDatabase("jpa-primary", suffix);
+            new JdbcTemplate(primary).update(
+                    "insert into user (id, nickname, password, role, username) values (2, 'jpa-primary', 'x', 0, 'primary-only')");
+            return new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primary,
+                    List.of(userDatabase("jpa-replica0", suffix), userDatabase("jpa-replica1", suffix)),
+                    ReplicationRoutingDataSource.Strategy.ROUND_ROBIN));
+        }
+
+        @Bean
+        public PrincipalCache principalCache() {
+            return mock(PrincipalCache.class); // User 의 엔티티 리스너 (PrincipalCacheEvictListener) 의존성
+        }
+
+        @Bean
+        public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                           ConfigurableListableBeanFactory beanFactory) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(User.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of(
+                    AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect",
+                    AvailableSettings.HBM2DDL_AUTO, "none",
+                    AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName(), // Spring Boot 와 같은 컬럼 이름
+                    AvailableSettings.USE_SECOND_LEVEL_CACHE, false,
+                    AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory)));
+            return factory;
+        }
+
+        @Bean
+        public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        private static DataSource userDatabase(String name, String suffix) {
+            DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + suffix
+                    + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", "");
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("create table user (id bigint primary key, nickname varchar(255), password varchar(255) not null, "
+                    + "role tinyint not null, username varchar(255) not null unique, last_login_at timestamp(6))");
+            jdbcTemplate.update("insert into user (id, nickname, password, role, username) values (1, ?, 'x', 0, 'alice')", name);
+            return dataSource;
+        }
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker ORDER BY name LIMIT 1", String.class);
+    }
+
+    private Integer countNewUser() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM marker WHERE name = 'new-user'", Integer.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(50))");
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM marker", Integer.class) == 0) {
+            jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        }
+        return dataSource;
+    }
+}
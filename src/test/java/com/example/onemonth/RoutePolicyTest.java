@@ -0,0 +1,108 @@
+package com.example.onemonth;
+
+import com.example.onemonth.global.security.RoutePolicy;
+import com.example.onemonth.global.security.RoutePolicy.Access;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutePolicyTest {
+
+    private final RoutePolicy routePolicy = new RoutePolicy();
+
+    /**
+     * - 목적 : 공개 경로 / 정적 리소스 / Swagger 가 PUBLIC 으로 판단되는지 테스트
+     * - 검증 : 메서드까지 일치할 때만 PUBLIC 이고, 다른 메서드는 AUTHENTICATED 인지 확인
+     */
+    @Test
+    void testPublicRoutes() {
+        assertEquals(Access.PUBLIC, routePolicy.resolve("POST", "/users/sign"));
+        assertEquals(Access.PUBLIC, routePolicy.resolve("GET", "/users/available"));
+        assertEquals(Access.PUBLIC, routePolicy.resolve("GET", "/swagger-ui/index.html"));
+        assertEquals(Access.PUBLIC, routePolicy.resolve("GET", "/css/main.css"));
+        assertEquals(Access.PUBLIC, routePolicy.resolve("GET", "/favicon.ico"));
+        assertEquals(Access.AUTHENTICATED, routePolicy.resolve("GET", "/users/sign"));
+        assertEquals(Access.AUTHENTICATED, routePolicy.resolve("DELETE", "/users/available"));
+    }
+
+    /**
+     * - 목적 : 관리자 경로와 나머지 경로 판단 테스트
+     * - 검증 : /admin 하위는 ADMIN, prefix 만 같은 경로 (/administrator) 와 미등록 경로는 AUTHENTICATED 인지 확인
+     */
+    @Test
+    void testAdminAndDefaultRoutes() {
+        assertEquals(Access.ADMIN, routePolicy.resolve("POST", "/admin/users/import"));
+        assertEquals(Access.ADMIN, routePolicy.resolve("GET", "/admin"));
+        assertEquals(Access.AUTHENTICATED, routePolicy.resolve("GET", "/administrator"));
+        assertEquals(Access.AUTHENTICATED, routePolicy.resolve("GET", "/check"));
+    }
+
+    /**
+     * - 목적 : actuator 노출 범위 테스트
+     * - 검증 : health 만 PUBLIC 이고 prometheus / metrics 는 ADMIN 인지 확인
+     */
+    @Test
+    void testActuatorRoutes() {
+        assertEquals(Access.PUBLIC, routePolicy.resolve("GET", "/actuator/health"));
+        assertEquals(Access.ADMIN, routePolicy.resolve("GET", "/actuator/prometheus"));
+        assertEquals(Access.ADMIN, routePolicy.resolve("GET", "/actuator/metrics"));
+    }
+
+    /**
+     * - 목적 : context path 가 있는 요청도 올바르게 판단하는지 테스트
+     * - 검증 : /api 아래로 배포된 경우 /api/users/sign 이 PUBLIC 인지 확인
+     */
+    @Test
+    void testContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/sign");
+        request.setContextPath("/api");
+
+        assertTrue(routePolicy.isPublic(request));
+    }
+
+    /**
+     * - 목적 : WebFlux (reactive 프로파일) 요청도 같은 규칙으로 판단하는지 테스트
+     * - 검증 : context path 를 제외한 경로로 판단하고, exchangeMatcher 가 resolve 결과와 일치하는지 확인
+     */
+    @Test
+    void testReactiveRequest() {
+        MockServerHttpRequest sign = MockServerHttpRequest.post("/api/users/sign").contextPath("/api").build();
+        MockServerWebExchange check = MockServerWebExchange.from(MockServerHttpRequest.get("/check").build());
+
+        assertEquals(Access.PUBLIC, routePolicy.resolve(sign));
+        assertTrue(routePolicy.exchangeMatcher(Access.AUTHENTICATED).matches(check).block().isMatch());
+        assertFalse(routePolicy.exchangeMatcher(Access.PUBLIC).matches(check).block().isMatch());
+    }
+
+    /**
+     * - 목적 : 경로를 퍼센트 인코딩해서 관리자 규칙을 우회하지 못하는지 테스트
+     * - 검증 : /%61dmin/... 과 ;jsessionid 가 붙은 경로가 디코딩된 경로 기준으로 ADMIN 인지 확인
+     */
+    @Test
+    void testEncodedPath() {
+        MockHttpServletRequest encoded = new MockHttpServletRequest("POST", "/%61dmin/users/import");
+        MockHttpServletRequest semicolon = new MockHttpServletRequest("POST", "/admin;jsessionid=1/users/x/revoke");
+
+        assertEquals(Access.ADMIN, routePolicy.resolve(encoded));
+        assertEquals(Access.ADMIN, routePolicy.resolve(semicolon));
+    }
+
+    /**
+     * - 목적 : WebFlux 요청도 인코딩된 경로로 관리자 규칙을 우회하지 못하는지 테스트
+     * - 검증 : /%61dmin/... 과 matrix 변수가 붙은 경로가 ADMIN 인지 확인
+     */
+    @Test
+    void testEncodedReactivePath() {
+        MockServerHttpRequest encoded = MockServerHttpRequest.method(HttpMethod.POST, URI.create("/%61dmin/users/x/revoke")).build();
+        MockServerHttpRequest matrix = MockServerHttpRequest.method(HttpMethod.POST, URI.create("/admin;x=1/users/import")).build();
+
+        assertEquals(Access.ADMIN, routePolicy.resolve(encoded));
+        assertEquals(Access.ADMIN, routePolicy.resolve(matrix));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.onemonth;
+
+import com.example.onemonth.global.security.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    /**
+     * - 목적 : 용량만큼 사용한 뒤에는 거부되는지 테스트
+     * - 검증 : 용량 5 인 bucket 에서 5 번 성공 후 6 번째는 대기 시간(12초) 을 반환하는지 확인
+     */
+    @Test
+    void testRejectWhenEmpty() {
+        long now = 1_700_000_000_000L;
+        TokenBucket bucket = new TokenBucket(5, 5, now);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, bucket.tryAcquire(now));
+        }
+        assertEquals(12_000L, bucket.tryAcquire(now));
+    }
+
+    /**
+     * - 목적 : 시간이 지나면 토큰이 충전되는지 테스트
+     * - 검증 : 분당 5 개 충전이면 12초 후 다시 1 번 성공하는지 확인
+     */
+    @Test
+    void testRefill() {
+        long now = 1_700_000_000_000L;
+        TokenBucket bucket = new TokenBucket(5, 5, now);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(now);
+        }
+        assertTrue(bucket.tryAcquire(now + 6_000L) > 0);
+        assertEquals(0L, bucket.tryAcquire(now + 12_000L));
+        assertTrue(bucket.tryAcquire(now + 12_000L) > 0);
+    }
+
+    /**
+     * - 목적 : 자주 호출해도 충전 속도가 느려지지 않는지 테스트
+     * - 검증 : 분당 7 개 충전 (약 8.57초에 1 개) 인 bucket 을 10ms 마다 호출해도 8.58초에 다시 성공하는지 확인 (소수점을 버리면 10초)
+     */
+    @Test
+    void testRefillKeepsFraction() {
+        long now = 1_700_000_000_000L;
+        TokenBucket bucket = new TokenBucket(1, 7, now);
+        assertEquals(0L, bucket.tryAcquire(now));
+
+        long at = now;
+        while (bucket.tryAcquire(at += 10) > 0) {
+            assertTrue(at < now + 8_580L, "refill too slow");
+        }
+        assertEquals(now + 8_580L, at); // 8571.4ms 이후 첫 호출
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.onemonth;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.config.IntrospectionConfig;
+import com.example.onemonth.global.config.JwtConfig;
+import com.example.onemonth.global.exception.CustomException;
+import com.example.onemonth.global.exception.ErrorCode;
+import com.example.onemonth.global.jwt.JwtUtil;
+import com.example.onemonth.global.jwt.TokenClaims;
+import com.example.onemonth.global.jwt.TokenIntrospector;
+import com.example.onemonth.global.jwt.TokenRevocationList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenIntrospectorTest {
+
+    private JwtUtil jwtUtil;
+    private TokenRevocationList tokenRevocationList;
+    private TokenIntrospector tokenIntrospector;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = mock(JwtConfig.class);
+        when(jwtConfig.getTokenExpiration()).thenReturn(60000L);
+        when(jwtConfig.getRefreshTokenExpiration()).thenReturn(1209600000L);
+        when(jwtConfig.getSecretKey()).thenReturn(Base64.getEncoder().encodeToString("secretKeysecretKeysecretKeysecretKey".getBytes()));
+        jwtUtil = new JwtUtil(jwtConfig);
+
+        IntrospectionConfig introspectionConfig = mock(IntrospectionConfig.class);
+        when(introspectionConfig.getKey()).thenReturn("internal-key");
+        when(introspectionConfig.getParallelThreshold()).thenReturn(8);
+        when(introspectionConfig.getParallelism()).thenReturn(4);
+
+        tokenRevocationList = mock(TokenRevocationList.class);
+        tokenIntrospector = new TokenIntrospector(jwtUtil, tokenRevocationList, introspectionConfig);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenIntrospector.shutdown();
+    }
+
+    /**
+     * - 목적 : 유효 / 위조 / 빈 / 폐기된 토큰이 섞인 요청 테스트
+     * - 검증 : 요청 순서대로 결과가 나오고, 실패 사유가 기존 ErrorCode 로 매핑되는지 확인
+     */
+    @Test
+    void testMixedTokens() {
+        String valid = jwtUtil.createAccessToken("alice", UserRole.ADMIN);
+        String revoked = jwtUtil.createAccessToken("bob", UserRole.USER);
+        when(tokenRevocationList.isRevoked(any(TokenClaims.class)))
+                .thenAnswer(invocation -> "bob".equals(invocation.<TokenClaims>getArgument(0).getUsername()));
+
+        List<TokenIntrospector.Result> results = tokenIntrospector.introspect(
+                List.of(valid, valid.substring(0, valid.length() - 2) + "xx", "", JwtUtil.BEARER + valid, revoked));
+
+        assertTrue(results.get(0).active());
+        assertEquals("alice", results.get(0).claims().getUsername());
+        assertEquals(UserRole.ADMIN, results.get(0).claims().getRole());
+        assertEquals(ErrorCode.INVALID_TOKEN, results.get(1).error());
+        assertEquals(ErrorCode.FALSE_TOKEN, results.get(2).error());
+        assertTrue(results.get(3).active());
+        assertEquals(ErrorCode.REVOKED_TOKEN, results.get(4).error());
+    }
+
+    /**
+     * - 목적 : 병렬 검증 경로 (parallel-threshold 이상) 테스트
+     * - 검증 : 결과 순서가 요청 순서와 같은지 확인
+     */
+    @Test
+    void testParallelKeepsOrder() {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            tokens.add(i % 7 == 0 ? "broken-" + i : jwtUtil.createAccessToken("user-" + i, UserRole.USER));
+        }
+
+        List<TokenIntrospector.Result> results = tokenIntrospector.introspect(tokens);
+
+        assertEquals(tokens.size(), results.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            if (i % 7 == 0) {
+                assertFalse(results.get(i).active());
+            } else {
+                assertEquals("user-" + i, results.get(i).claims().getUsername());
+            }
+        }
+    }
+
+    /**
+     * - 목적 : 내부 API 키 확인 테스트
+     * - 검증 : 키가 없거나 다르면 INVALID_INTERNAL_KEY 예외가 발생하는지 확인
+     */
+    @Test
+    void testInternalKey() {
+        assertDoesNotThrow(() -> tokenIntrospector.checkInternalKey("internal-key"));
+
+        CustomException missing = assertThrows(CustomException.class, () -> tokenIntrospector.checkInternalKey(null));
+        assertEquals(ErrorCode.INVALID_INTERNAL_KEY, missing.getErrorCode());
+        assertThrows(CustomException.class, () -> tokenIntrospector.checkInternalKey("internal-kez"));
+    }
+}
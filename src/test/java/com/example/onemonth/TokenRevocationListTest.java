@@ -0,0 +1,273 @@
+package com.example.onemonth;
+
+import com.example.onemonth.domain.user.UserRole;
+import com.example.onemonth.global.config.JwtConfig;
+import com.example.onemonth.global.jwt.TokenClaims;
+import com.example.onemonth.global.jwt.TokenRevocationList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * - 목적 : 토큰 단위 / 사용자 단위 폐기 판단 테스트
+     * - 검증 : 폐기한 jti 만 폐기로 보고 (Bloom filter 를 통과한 나머지는 false), 사용자 폐기는 기준 시각 이전 발급 토큰에만 적용되는지 확인
+     */
+    @Test
+    void testRevokeTokenAndUser() {
+        TokenRevocationList list = new TokenRevocationList(config(null, 8 * 1024 * 1024));
+        long now = System.currentTimeMillis();
+
+        list.revokeToken("revoked-jti", now + HOUR);
+        list.revokeUser("alice", now);
+
+        assertTrue(list.isRevoked(claims("revoked-jti", "bob", now - 1000)));
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(list.isRevoked(claims(UUID.randomUUID().toString(), "bob", now)));
+        }
+        assertTrue(list.isRevoked(claims("a-1", "alice", now - 1000)));
+        assertTrue(list.isRevoked(claims("a-2", "alice", now)));
+        assertFalse(list.isRevoked(claims("a-3", "alice", now + 1000)));
+    }
+
+    /**
+     * - 목적 : 이미 만료된 토큰은 폐기 목록에 넣지 않는지 테스트
+     * - 검증 : 만료 시각이 지난 jti 를 폐기해도 isRevoked 가 false 인지 확인
+     */
+    @Test
+    void testIgnoreExpiredToken() {
+        TokenRevocationList list = new TokenRevocationList(config(null, 8 * 1024 * 1024));
+        long now = System.currentTimeMillis();
+
+        list.revokeToken("expired-jti", now - 1);
+
+        assertFalse(list.isRevoked(claims("expired-jti", "bob", now - HOUR)));
+    }
+
+    /**
+     * - 목적 : 만료 버킷 정리 테스트
+     * - 검증 : 버킷 전체가 만료되면 항목이 제거되고, 아직 만료되지 않은 항목은 정리 후에도 폐기 상태인지 확인
+     */
+    @Test
+    void testPurgeExpiredBucket() throws InterruptedException {
+        TokenRevocationList list = new TokenRevocationList(config(null, 8 * 1024 * 1024));
+        long now = System.currentTimeMillis();
+        long shortExpiry = now + 100;
+
+        list.revokeToken("short-jti", shortExpiry);
+        list.revokeToken("long-jti", now + HOUR);
+        sleepUntilBucketEnds(shortExpiry);
+        assertTrue(list.isRevoked(claims("short-jti", "bob", now)));
+
+        list.purgeExpired();
+
+        assertFalse(list.isRevoked(claims("short-jti", "bob", now)));
+        assertTrue(list.isRevoked(claims("long-jti", "bob", now)));
+    }
+
+    /**
+     * - 목적 : memory-mapped 파일에 기록한 폐기 목록이 재시작 후에도 유지되는지 테스트
+     * - 검증 : 닫았다가 같은 파일로 새로 연 인스턴스에서 토큰 / 사용자 폐기가 모두 유지되는지 확인
+     */
+    @Test
+    void testReplayAfterRestart() throws IOException {
+        Path file = tempDir.resolve("revocations.bin");
+        long now = System.currentTimeMillis();
+
+        TokenRevocationList first = new TokenRevocationList(config(file, 64 * 1024));
+        first.open();
+        first.revokeToken("revoked-jti", now + HOUR);
+        first.revokeUser("alice", now);
+        first.close();
+
+        TokenRevocationList second = new TokenRevocationList(config(file, 64 * 1024));
+        second.open();
+
+        assertTrue(second.isRevoked(claims("revoked-jti", "bob", now)));
+        assertTrue(second.isRevoked(claims("a-1", "alice", now - 1000)));
+        assertFalse(second.isRevoked(claims("other-jti", "bob", now)));
+        second.close();
+    }
+
+    /**
+     * - 목적 : 정리 시 파일 compaction 테스트
+     * - 검증 : 레코드 4 개만 들어가는 파일에서 만료 항목을 정리하면 공간이 확보되어 새 항목이 파일에 기록되고, 재시작 후 만료 항목은 복원되지 않는지 확인
+     */
+    @Test
+    void testCompaction() throws IOException, InterruptedException {
+        Path file = tempDir.resolve("revocations.bin");
+        int fileSize = 8 + 4 * (19 + 36); // header + UUID jti 레코드 4 개
+        long now = System.currentTimeMillis();
+        long shortExpiry = now + 100;
+
+        TokenRevocationList list = new TokenRevocationList(config(file, fileSize));
+        list.open();
+        String[] expired = new String[3];
+        for (int i = 0; i < expired.length; i++) {
+            expired[i] = UUID.randomUUID().toString();
+            list.revokeToken(expired[i], shortExpiry);
+        }
+        sleepUntilBucketEnds(shortExpiry);
+        list.purgeExpired();
+
+        String[] live = new String[4];
+        for (int i = 0; i < live.length; i++) {
+            live[i] = UUID.randomUUID().toString();
+            list.revokeToken(live[i], now + HOUR);
+        }
+        list.close();
+
+        TokenRevocationList reopened = new TokenRevocationList(config(file, fileSize));
+        reopened.open();
+        for (String tokenId : live) {
+            assertTrue(reopened.isRevoked(claims(tokenId, "bob", now)));
+        }
+        for (String tokenId : expired) {
+            assertFalse(reopened.isRevoked(claims(tokenId, "bob", now)));
+        }
+        assertEquals(fileSize, Files.size(file));
+        reopened.close();
+    }
+
+    /**
+     * - 목적 : 가득 찬 파일의 compaction 테스트
+     * - 검증 : 살아 있는 항목이 파일보다 많으면 사용자 폐기를 먼저 남기고, 재시작 후에도 파일이 정상적으로 읽히는지 확인
+     */
+    @Test
+    void testCompactionWhenFull() throws IOException {
+        Path file = tempDir.resolve("revocations.bin");
+        int fileSize = 8 + (19 + 5) + 3 * (19 + 36); // header + "alice" 레코드 + UUID jti 레코드 3 개
+        long now = System.currentTimeMillis();
+
+        TokenRevocationList list = new TokenRevocationList(config(file, fileSize));
+        list.open();
+        list.revokeUser("alice", now);
+        String[] tokens = new String[4];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = UUID.randomUUID().toString();
+            list.revokeToken(tokens[i], now + HOUR); // 마지막 항목에서 compaction 후에도 공간이 없음
+        }
+        for (String tokenId : tokens) {
+            assertTrue(list.isRevoked(claims(tokenId, "bob", now)));
+        }
+        list.close();
+
+        TokenRevocationList reopened = new TokenRevocationList(config(file, fileSize));
+        reopened.open();
+        assertTrue(reopened.isRevoked(claims("a-1", "alice", now - 1000)));
+        int persisted = 0;
+        for (String tokenId : tokens) {
+            persisted += reopened.isRevoked(claims(tokenId, "bob", now)) ? 1 : 0;
+        }
+        assertEquals(3, persisted);
+        assertFalse(Files.exists(tempDir.resolve("revocations.bin.compact")));
+        reopened.close();
+    }
+
+    /**
+     * - 목적 : 손상된 파일로 기동할 때 테스트
+     * - 검증 : 레코드 길이가 잘못된 지점부터는 버리고 앞의 레코드는 읽으며, 이후 기록은 그 지점부터 이어지는지 확인
+     */
+    @Test
+    void testCorruptRecord() throws IOException {
+        Path file = tempDir.resolve("revocations.bin");
+        long now = System.currentTimeMillis();
+
+        TokenRevocationList first = new TokenRevocationList(config(file, 64 * 1024));
+        first.open();
+        first.revokeToken("first-jti", now + HOUR);
+        first.revokeToken("second-jti", now + HOUR);
+        first.close();
+        // 두 번째 레코드의 key 길이를 파일 끝을 넘도록 변경
+        writeShort(file, 8 + 19 + "first-jti".length() + 17, (short) 0xffff);
+
+        TokenRevocationList second = new TokenRevocationList(config(file, 64 * 1024));
+        assertDoesNotThrow(second::open);
+        assertTrue(second.isRevoked(claims("first-jti", "bob", now)));
+        assertFalse(second.isRevoked(claims("second-jti", "bob", now)));
+        second.revokeToken("third-jti", now + HOUR);
+        second.close();
+
+        TokenRevocationList third = new TokenRevocationList(config(file, 64 * 1024));
+        third.open();
+        assertTrue(third.isRevoked(claims("first-jti", "bob", now)));
+        assertTrue(third.isRevoked(claims("third-jti", "bob", now)));
+        third.close();
+    }
+
+    /**
+     * - 목적 : 헤더의 끝 위치가 범위를 벗어난 파일 (손상 / 더 큰 file-size 로 기록) 로 기동할 때 테스트
+     * - 검증 : 예외 없이 유효한 레코드까지 읽고, 남아 있던 compaction 임시 파일은 지우는지 확인
+     */
+    @Test
+    void testEndPointerOutOfRange() throws IOException {
+        Path file = tempDir.resolve("revocations.bin");
+        Path compactFile = tempDir.resolve("revocations.bin.compact");
+        long now = System.currentTimeMillis();
+
+        TokenRevocationList first = new TokenRevocationList(config(file, 64 * 1024));
+        first.open();
+        first.revokeToken("first-jti", now + HOUR);
+        first.revokeUser("alice", now);
+        first.close();
+        writeInt(file, 4, Integer.MAX_VALUE);
+        Files.write(compactFile, new byte[]{1, 2, 3}); // compaction 도중 종료된 흔적
+
+        TokenRevocationList second = new TokenRevocationList(config(file, 64 * 1024));
+        assertDoesNotThrow(second::open);
+        assertTrue(second.isRevoked(claims("first-jti", "bob", now)));
+        assertTrue(second.isRevoked(claims("a-1", "alice", now - 1000)));
+        assertFalse(Files.exists(compactFile));
+        second.close();
+    }
+
+    private static void writeInt(Path file, int position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, value), position);
+        }
+    }
+
+    private static void writeShort(Path file, int position, short value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(2).putShort(0, value), position);
+        }
+    }
+
+    private static JwtConfig config(Path file, int fileSize) {
+        JwtConfig jwtConfig = mock(JwtConfig.class);
+        when(jwtConfig.getTokenExpiration()).thenReturn(60000L);
+        when(jwtConfig.getRefreshTokenExpiration()).thenReturn(1209600000L);
+        when(jwtConfig.getRevocationExpectedEntries()).thenReturn(1024L);
+        when(jwtConfig.getRevocationBucketSeconds()).thenReturn(1L);
+        when(jwtConfig.getRevocationFilePath()).thenReturn(file == null ? "" : file.toString());
+        when(jwtConfig.getRevocationFileSizeBytes()).thenReturn(fileSize);
+        return jwtConfig;
+    }
+
+    private static TokenClaims claims(String tokenId, String username, long issuedAt) {
+        return new TokenClaims(tokenId, username, UserRole.USER, issuedAt, issuedAt + HOUR);
+    }
+
+    // 1 초 버킷이 끝날 때까지 대기 (purgeExpired 는 현재 버킷보다 앞선 버킷만 정리)
+    private static void sleepUntilBucketEnds(long expiresAt) throws InterruptedException {
+        long bucketEnd = (expiresAt / 1000 + 1) * 1000;
+        Thread.sleep(Math.max(0L, bucketEnd - System.currentTimeMillis() + 50));
+    }
+}
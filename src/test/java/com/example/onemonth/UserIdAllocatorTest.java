@@ -0,0 +1,84 @@
+package com.example.onemonth;
+
+import com.example.onemonth.domain.user.reactive.UserIdAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserIdAllocatorTest {
+
+    private final AtomicLong nextVal = new AtomicLong(100); // user_seq.next_val
+    private final AtomicInteger reservations = new AtomicInteger();
+    private UserIdAllocator allocator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+
+        // select ... for update : 현재 값을 돌려주고 (update 까지 한 것으로 보고) 50 증가, 동시 요청이 겹치도록 지연
+        DatabaseClient.GenericExecuteSpec select = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<Long> rows = mock(RowsFetchSpec.class);
+        when(databaseClient.sql("select next_val from user_seq for update")).thenReturn(select);
+        when(select.map(any(Function.class))).thenReturn(rows);
+        when(rows.one()).thenAnswer(invocation -> Mono.defer(() -> {
+            reservations.incrementAndGet();
+            return Mono.just(nextVal.getAndAdd(50)).delayElement(Duration.ofMillis(20));
+        }));
+
+        DatabaseClient.GenericExecuteSpec update = mock(DatabaseClient.GenericExecuteSpec.class);
+        FetchSpec<Map<String, Object>> fetch = mock(FetchSpec.class);
+        when(databaseClient.sql("update user_seq set next_val = :next")).thenReturn(update);
+        when(update.bind(eq("next"), any())).thenReturn(update);
+        when(update.fetch()).thenReturn(fetch);
+        when(fetch.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        allocator = new UserIdAllocator(databaseClient, transactionalOperator);
+    }
+
+    /**
+     * - 목적 : Hibernate pooled optimizer 와 같은 구간을 쓰는지 테스트
+     * - 검증 : next_val 이 V 일 때 [V - 49, V] 를 순서대로 나눠 주고, 다 쓰면 다음 구간을 예약하는지 확인
+     */
+    @Test
+    void testPooledBlocks() {
+        List<Long> ids = Flux.range(0, 60).concatMap(i -> allocator.nextId()).collectList().block();
+
+        assertEquals(LongStream.rangeClosed(51, 110).boxed().toList(), ids);
+        assertEquals(2, reservations.get());
+    }
+
+    /**
+     * - 목적 : 구간이 바닥났을 때 동시 요청이 예약 하나를 함께 기다리는지 테스트
+     * - 검증 : 200 개를 동시에 요청해도 예약은 4 번이고, 버려지는 id 없이 51 ~ 250 이 한 번씩 나오는지 확인
+     */
+    @Test
+    void testConcurrentRequestsShareReservation() {
+        List<Long> ids = Flux.range(0, 200).flatMap(i -> allocator.nextId(), 200).collectList().block();
+
+        assertEquals(4, reservations.get());
+        assertEquals(LongStream.rangeClosed(51, 250).boxed().toList(), ids.stream().sorted().toList());
+    }
+}
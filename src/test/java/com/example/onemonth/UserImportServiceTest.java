@@ -0,0 +1,200 @@
+package com.example.onemonth;
+
+import com.example.onemonth.domain.user.User;
+import com.example.onemonth.domain.user.UserImportService;
+import com.example.onemonth.domain.user.UserRepository;
+import com.example.onemonth.domain.user.UsernameFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class UserImportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, User> saved = new LinkedHashMap<>(); // DB 대신
+    private final Set<String> conflicting = new HashSet<>();       // 동시 가입으로 저장 시점에 unique 제약에 걸리는 username
+    private UserRepository userRepository;
+    private UsernameFilter usernameFilter;
+    private UserImportService userImportService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findExistingUsernames(any())).thenAnswer(invocation ->
+                ((Collection<String>) invocation.getArgument(0)).stream().filter(saved::containsKey).toList());
+        when(userRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            if (users.stream().anyMatch(user -> conflicting.contains(user.getUsername()))) {
+                throw new DataIntegrityViolationException("uk_user_username");
+            }
+            users.forEach(user -> saved.put(user.getUsername(), user));
+            return users;
+        });
+        when(userRepository.save(any())).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            if (conflicting.contains(user.getUsername())) {
+                throw new DataIntegrityViolationException("uk_user_username");
+            }
+            saved.put(user.getUsername(), user);
+            return user;
+        });
+
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> "hashed:" + invocation.getArgument(0));
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+
+        usernameFilter = mock(UsernameFilter.class);
+        userImportService = new UserImportService(userRepository, passwordEncoder, usernameFilter,
+                transactionTemplate, entityManager, objectMapper, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.shutdown();
+    }
+
+    /**
+     * - 목적 : CSV 스트리밍 등록 테스트
+     * - 검증 : 쉼표가 들어간 따옴표 값이 밀리지 않고 저장되고, 열 수가 맞지 않는 행은 INVALID, 행마다 결과와 summary 가 나오는지 확인
+     */
+    @Test
+    void testCsvImport() throws IOException {
+        List<JsonNode> results = importUsers(UserImportService.Format.CSV,
+                "username,password,nickname\n"
+                        + "alice,\"pa,ss\",\"Kim, Alice\"\n"
+                        + "bob,pw,nick,extra\n"
+                        + "carol,pw\n");
+
+        assertEquals("CREATED", result(results, 2));
+        assertEquals("INVALID", result(results, 3));
+        assertEquals("CREATED", result(results, 4));
+        assertEquals("hashed:pa,ss", saved.get("alice").getPassword());
+        assertEquals("Kim, Alice", saved.get("alice").getNickname());
+        assertNull(saved.get("carol").getNickname());
+        assertSummary(results, 2, 0, 1, 0);
+    }
+
+    /**
+     * - 목적 : chunk 단위 중복 처리 테스트 (chunk 크기 2)
+     * - 검증 : 같은 chunk 안의 중복, 이전 chunk 에서 저장된 username, DB 에 이미 있던 username 이 모두 DUPLICATE 인지 확인
+     */
+    @Test
+    void testDuplicatesAcrossChunks() throws IOException {
+        saved.put("existing", User.builder().username("existing").password("x").build());
+
+        List<JsonNode> results = importUsers(UserImportService.Format.NDJSON,
+                "{\"username\":\"alice\",\"password\":\"pw\"}\n"
+                        + "{\"username\":\"alice\",\"password\":\"pw\"}\n"
+                        + "{\"username\":\"bob\",\"password\":\"pw\"}\n"
+                        + "{\"username\":\"alice\",\"password\":\"pw\"}\n"
+                        + "\n"
+                        + "{\"username\":\"existing\",\"password\":\"pw\"}\n"
+                        + "not json\n");
+
+        assertEquals("CREATED", result(results, 1));
+        assertEquals("DUPLICATE", result(results, 2));
+        assertEquals("CREATED", result(results, 3));
+        assertEquals("DUPLICATE", result(results, 4));
+        assertEquals("DUPLICATE", result(results, 6));
+        assertEquals("INVALID", result(results, 7));
+        assertSummary(results, 2, 3, 1, 0);
+        assertEquals(Set.of("existing", "alice", "bob"), saved.keySet());
+    }
+
+    /**
+     * - 목적 : chunk 저장이 unique 제약에 걸렸을 때 행 단위 재시도 테스트
+     * - 검증 : 충돌한 행만 DUPLICATE 이고 나머지는 저장되며, 저장된 username 만 필터에 추가되는지 확인
+     */
+    @Test
+    void testPerRowFallback() throws IOException {
+        conflicting.add("bob");
+
+        List<JsonNode> results = importUsers(UserImportService.Format.CSV, "alice,pw\nbob,pw\n");
+
+        assertEquals("CREATED", result(results, 1));
+        assertEquals("DUPLICATE", result(results, 2));
+        assertTrue(saved.containsKey("alice"));
+        assertFalse(saved.containsKey("bob"));
+        verify(userRepository, times(2)).save(any());
+        verify(usernameFilter).add("alice");
+        verify(usernameFilter, never()).add("bob");
+        assertSummary(results, 1, 1, 0, 0);
+    }
+
+    /**
+     * - 목적 : 응답을 보내는 도중 chunk 처리가 실패했을 때 스트림을 error 줄로 끝내는지 테스트 (chunk 크기 2)
+     * - 검증 : 앞 chunk 결과는 그대로 나오고, 마지막 줄에 error 와 처리되지 않은 첫 행 번호, 그때까지의 summary 가 나오는지 확인
+     */
+    @Test
+    void testAbortWritesErrorLine() throws IOException {
+        doThrow(new IllegalStateException("connection lost"))
+                .when(userRepository).findExistingUsernames(argThat(usernames -> usernames.contains("carol")));
+
+        List<JsonNode> results = importUsers(UserImportService.Format.CSV, "alice,pw\nbob,pw\ncarol,pw\ndave,pw\n");
+
+        assertEquals("CREATED", result(results, 1));
+        assertEquals("CREATED", result(results, 2));
+        assertEquals(3, results.size());
+        JsonNode last = results.get(results.size() - 1);
+        assertEquals("INTERNAL_SERVER_ERROR", last.get("error").asText());
+        assertEquals(3, last.get("abortedAtLine").asLong());
+        assertFalse(saved.containsKey("carol"));
+        assertSummary(results, 2, 0, 0, 0);
+    }
+
+    private List<JsonNode> importUsers(UserImportService.Format format, String input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        userImportService.importUsers(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format, output);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+
+    private static String result(List<JsonNode> results, long line) {
+        return results.stream()
+                .filter(node -> node.has("line") && node.get("line").asLong() == line)
+                .findFirst()
+                .map(node -> node.get("result").asText())
+                .orElseThrow(() -> new AssertionError("no result for line " + line));
+    }
+
+    private static void assertSummary(List<JsonNode> results, long created, long duplicate, long invalid, long failed) {
+        JsonNode summary = results.get(results.size() - 1).get("summary");
+        assertEquals(created, summary.get("created").asLong());
+        assertEquals(duplicate, summary.get("duplicate").asLong());
+        assertEquals(invalid, summary.get("invalid").asLong());
+        assertEquals(failed, summary.get("failed").asLong());
+    }
+}